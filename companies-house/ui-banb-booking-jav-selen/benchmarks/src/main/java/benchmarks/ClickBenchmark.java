@@ -0,0 +1,68 @@
+package benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pages.HomePage;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Click paths for the home page's "Check Availability" button:
+ * a native WebDriver click, the JS click the page objects fall back to, and the full
+ * HomePage.clickCheckAvailability path (wait for clickable + settled scroll + click).
+ * The fixture has no scripts, so clicks have no side effects between invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClickBenchmark {
+
+    private WebDriver driver;
+    private WebElement button;
+    private HomePage home;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = Fixtures.headlessChrome();
+        Fixtures.open(driver, Fixtures.HOME);
+        home = new HomePage(driver);
+        button = driver.findElement(By.id("check-availability"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (driver != null) driver.quit();
+    }
+
+    @Benchmark
+    public void nativeClick() {
+        button.click();
+    }
+
+    @Benchmark
+    public Object jsClick() {
+        return ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
+    }
+
+    @Benchmark
+    public void pageObjectClick() {
+        home.clickCheckAvailability();
+    }
+}
@@ -0,0 +1,93 @@
+package benchmarks;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+/**
+ * Saved DOM fixtures (src/main/resources/fixtures) and the headless browser they are loaded into.
+ * Fixtures are copied out of the jar once per fork and opened via file://, so no network is involved.
+ */
+final class Fixtures {
+
+    static final String HOME = "home.html";        // booking widget, Our Rooms, Contact form
+    static final String BOOKING = "booking.html";  // reservation page with the booking form open
+    static final String CONTACT = "contact.html";  // home page after the Contact form was submitted
+
+    private static Path dir;
+
+    private Fixtures() {}
+
+    /** Same window size and flags as BaseTest's headless Chrome, implicit wait 0 (explicit wait mode). */
+    static WebDriver headlessChrome() {
+        WebDriverManager.chromedriver().setup();
+        ChromeOptions opts = new ChromeOptions();
+        opts.addArguments("--headless=new", "--window-size=1920,1080", "--no-sandbox", "--disable-dev-shm-usage");
+        WebDriver driver = new ChromeDriver(opts);
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        return driver;
+    }
+
+    static void open(WebDriver driver, String fixture) {
+        driver.get(path(fixture).toUri().toString());
+    }
+
+    private static synchronized Path path(String fixture) {
+        try {
+            if (dir == null) dir = Files.createTempDirectory("dom-fixtures");
+            Path file = dir.resolve(fixture);
+            if (Files.notExists(file)) {
+                try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + fixture)) {
+                    if (in == null) throw new IllegalArgumentException("No such fixture: " + fixture);
+                    Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a locator straight from a page object ("HomePage.headerText" -> the private By field),
+     * so the benchmark always measures what the page object really uses.
+     */
+    static By pageLocator(Object page, String field) {
+        try {
+            Field f = page.getClass().getDeclaredField(field);
+            f.setAccessible(true);
+            return (By) f.get(page);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(page.getClass().getSimpleName() + " has no By field '" + field + "'", e);
+        }
+    }
+
+    /** Section component by simple name, e.g. "BookingCard" -> pages.components.BookingCard. */
+    static Class<?> component(String simpleName) {
+        try {
+            return Class.forName("pages.components." + simpleName);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown component: " + simpleName, e);
+        }
+    }
+
+    /** Public static locator of a component ("ROOT", "CHECK_IN", ...). */
+    static By componentLocator(Class<?> component, String field) {
+        try {
+            return (By) component.getField(field).get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(component.getSimpleName() + " has no By constant '" + field + "'", e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import org.openqa.selenium.WebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pages.BookingPage;
+import pages.ContactPage;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Form filling through the page objects in both FormFiller modes:
+ * BATCH (one script call, native value setter) vs TYPING (clearAndType per field).
+ * Each invocation overwrites the same fields, so the page state does not drift.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class FormFillBenchmark {
+
+    @Param({"BATCH", "TYPING"})
+    public String formFillMode;
+
+    private WebDriver driver;
+    private ContactPage contact;
+    private BookingPage booking;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("formFillMode", formFillMode); // read by FormFiller.Mode.current() on every fill
+        driver = Fixtures.headlessChrome();
+        contact = new ContactPage(driver);
+        booking = new BookingPage(driver);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (driver != null) driver.quit();
+    }
+
+    @State(Scope.Benchmark)
+    public static class OnHome {
+        @Setup(Level.Trial)
+        public void open(FormFillBenchmark b) {
+            Fixtures.open(b.driver, Fixtures.HOME);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class OnBooking {
+        @Setup(Level.Trial)
+        public void open(FormFillBenchmark b) {
+            Fixtures.open(b.driver, Fixtures.BOOKING);
+        }
+    }
+
+    @Benchmark
+    public void fillContactForm(OnHome page) {
+        contact.fillContactForm("Jane Doe", "jane.doe@example.test", "07123456789",
+                "Booking enquiry", "Is the Suite available for a late check-in next month?");
+    }
+
+    @Benchmark
+    public void fillBookingForm(OnBooking page) {
+        booking.fillBookingForm("Jane", "Doe", "jane.doe@example.test", "07123456789");
+    }
+}
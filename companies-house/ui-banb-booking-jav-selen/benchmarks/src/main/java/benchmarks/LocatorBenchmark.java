@@ -0,0 +1,111 @@
+package benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pages.HomePage;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One findElements round trip per page-object locator, against the saved DOM fixtures.
+ * Covers the three styles the page objects mix: plain CSS, text XPath (normalize-space / translate)
+ * and comma-union CSS, plus a few "css=" alternatives so each XPath can be compared with a CSS twin.
+ *
+ * Param format: fixture:Page.field (read from the page object, searched from the document),
+ * fixture:Component.FIELD (searched from the component's ROOT, as the page objects do)
+ * or fixture:css=selector (searched from the document).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorBenchmark {
+
+    @Param({
+            // HomePage
+            "home:HomePage.headerText",
+            "home:BookingWidget.TITLE",
+            "home:BookingWidget.CHECK_IN",
+            "home:BookingWidget.CHECK_AVAILABILITY",
+            "home:css=section#booking button.btn-primary",
+            "home:RoomsSection.HEADER",
+            "home:css=section#rooms .room-card",
+            "home:Navbar.CONTACT_LINK",
+            // ContactPage (form on the home page, confirmation after submit)
+            "home:ContactSection.HEADING",
+            "home:ContactSection.NAME",
+            "home:css=#name",
+            "home:ContactSection.MESSAGE",
+            "home:ContactSection.SUBMIT",
+            "contact:ContactSection.CONFIRM_HEADING",
+            "contact:ContactSection.CONFIRM_SUBJECT",
+            "contact:css=#contact-body p[style*='font-weight']",
+            // BookingPage
+            "booking:BookingCard.HEADER",
+            "booking:css=.booking-card h2.card-title",
+            "booking:Calendar.MONTH_VIEW",
+            "booking:BookingCard.FIRST_NAME",
+            "booking:BookingCard.RESERVE_NOW",
+            "booking:BookingCard.CANCEL",
+    })
+    public String locator;
+
+    private WebDriver driver;
+    private SearchContext scope;
+    private By by;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] spec = locator.split(":", 2);
+        driver = Fixtures.headlessChrome();
+        Fixtures.open(driver, spec[0] + ".html");
+        scope = driver;
+        by = resolve(spec[1]);
+
+        // fail fast if a locator no longer matches its fixture (a miss would benchmark an empty search)
+        new WebDriverWait(driver, Duration.ofSeconds(5)).until(d -> !scope.findElements(by).isEmpty());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (driver != null) driver.quit();
+    }
+
+    @Benchmark
+    public List<WebElement> findElements() {
+        return scope.findElements(by);
+    }
+
+    private By resolve(String target) {
+        if (target.startsWith("css=")) return By.cssSelector(target.substring(4));
+        String[] ownerAndField = target.split("\\.", 2);
+        if (ownerAndField[0].equals("HomePage")) {
+            return Fixtures.pageLocator(new HomePage(driver), ownerAndField[1]);
+        }
+        Class<?> component = Fixtures.component(ownerAndField[0]);
+        scope = new WebDriverWait(driver, Duration.ofSeconds(5))
+                .until(ExpectedConditions.presenceOfElementLocated(Fixtures.componentLocator(component, "ROOT")));
+        return Fixtures.componentLocator(component, ownerAndField[1]);
+    }
+}
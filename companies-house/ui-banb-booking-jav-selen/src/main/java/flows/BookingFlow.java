@@ -0,0 +1,15 @@
+package flows;
+
+import pages.RoomCard;
+
+import java.time.LocalDate;
+
+/** Reserving a room from its card: Book now, the booking form and Reserve Now. */
+public interface BookingFlow {
+
+    /** Dates the site confirmed, as ISO strings (e.g. 2025-11-04). */
+    record Confirmation(String checkInIso, String checkOutIso) {}
+
+    /** Books the room for the stay; fails if the site does not confirm it. */
+    Confirmation book(RoomCard room, LocalDate checkIn, LocalDate checkOut, Guest guest);
+}
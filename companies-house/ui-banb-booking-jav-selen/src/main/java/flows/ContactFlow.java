@@ -0,0 +1,11 @@
+package flows;
+
+/** The "Send Us a Message" form of the home page. */
+public interface ContactFlow {
+
+    /** What the site shows once a message is accepted: "Thanks for getting in touch {name}!" and the subject. */
+    record Receipt(String heading, String subject) {}
+
+    /** Sends the message; fails if the site rejects it. */
+    Receipt sendMessage(Guest sender, String subject, String message);
+}
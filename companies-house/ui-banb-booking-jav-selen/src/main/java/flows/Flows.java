@@ -0,0 +1,11 @@
+package flows;
+
+/**
+ * The booking and contact journeys behind one implementation: SeleniumFlows drives the page objects in a browser,
+ * HttpFlows calls the site's /api/room, /api/booking and /api/message endpoints the pages use.
+ */
+public interface Flows extends RoomFlow, BookingFlow, ContactFlow {
+
+    /** "ui" or "http". */
+    String name();
+}
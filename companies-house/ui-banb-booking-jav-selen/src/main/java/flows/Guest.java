@@ -0,0 +1,9 @@
+package flows;
+
+/** Who is booking or writing in: the values typed into the booking and contact forms. */
+public record Guest(String firstName, String lastName, String email, String phone) {
+
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+}
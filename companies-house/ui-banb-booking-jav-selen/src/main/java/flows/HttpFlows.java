@@ -0,0 +1,161 @@
+package flows;
+
+import org.openqa.selenium.json.Json;
+import pages.RoomCard;
+import pages.RoomCatalogue;
+import utils.Log;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The flows without a browser: the JSON calls the home and booking pages make themselves
+ * (GET /api/room, POST /api/booking, POST /api/message). Room cards are built from the /api/room entries the
+ * "Our Rooms" grid renders (type, roomPrice, /reservation/{roomid} link). Confirmations and receipts are read from
+ * what the server stored, never from what was sent: the booking dates from the created booking (top level, nested
+ * under "booking", or fetched by its id), the receipt from the saved message, worded as the page acknowledges it.
+ * A response that confirms nothing is an error.
+ */
+public final class HttpFlows implements Flows {
+
+    private static final Json JSON = new Json();
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final Duration timeout;
+
+    public HttpFlows(String baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl.replaceAll("/+$", "");
+        this.timeout = timeout;
+        this.http = HttpClient.newBuilder().connectTimeout(timeout).followRedirects(HttpClient.Redirect.NORMAL).build();
+    }
+
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    @Override
+    public RoomCatalogue listRooms() {
+        return rooms("/api/room", "");
+    }
+
+    @Override
+    public RoomCatalogue checkAvailability(LocalDate checkIn, LocalDate checkOut) {
+        String stay = "?checkin=" + checkIn + "&checkout=" + checkOut;
+        return rooms("/api/room" + stay, stay);
+    }
+
+    @Override
+    public Confirmation book(RoomCard room, LocalDate checkIn, LocalDate checkOut, Guest guest) {
+        if (room.roomId().isEmpty()) throw new IllegalArgumentException("Room card has no room id: " + room);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("roomid", Integer.parseInt(room.roomId()));
+        body.put("firstname", guest.firstName());
+        body.put("lastname", guest.lastName());
+        body.put("depositpaid", false);
+        body.put("email", guest.email());
+        body.put("phone", guest.phone());
+        body.put("bookingdates", Map.of("checkin", checkIn.toString(), "checkout", checkOut.toString()));
+
+        Map<String, Object> booked = send("POST", "/api/booking", body);
+        Confirmation confirmation = confirmation(booked);
+        if (confirmation == null && booked.get("bookingid") instanceof Number id) {
+            confirmation = confirmation(send("GET", "/api/booking/" + id.intValue(), null));
+        }
+        if (confirmation == null) {
+            throw new IllegalStateException("POST /api/booking did not confirm the booking dates: " + booked);
+        }
+        return confirmation;
+    }
+
+    @Override
+    public Receipt sendMessage(Guest sender, String subject, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", sender.fullName());
+        body.put("email", sender.email());
+        body.put("phone", sender.phone());
+        body.put("subject", subject);
+        body.put("description", message);
+        Map<String, Object> saved = send("POST", "/api/message", body);
+        if (!(saved.get("messageid") instanceof Number id) || isBlank(saved.get("name")) || isBlank(saved.get("subject"))) {
+            throw new IllegalStateException("POST /api/message did not return the saved message: " + saved);
+        }
+        Log.info(() -> "Message " + id + " saved");
+        return new Receipt("Thanks for getting in touch " + saved.get("name") + "!", String.valueOf(saved.get("subject")));
+    }
+
+    // ---------- helpers ----------
+
+    // bookingdates at the top level (the stub) or under "booking" ({bookingid, booking: {...}}); null if neither
+    private static Confirmation confirmation(Map<?, ?> response) {
+        Object dates = response.get("bookingdates");
+        if (dates == null && response.get("booking") instanceof Map<?, ?> booking) dates = booking.get("bookingdates");
+        if (dates instanceof Map<?, ?> d && !isBlank(d.get("checkin")) && !isBlank(d.get("checkout"))) {
+            return new Confirmation(String.valueOf(d.get("checkin")), String.valueOf(d.get("checkout")));
+        }
+        return null;
+    }
+
+    private static boolean isBlank(Object o) {
+        return o == null || String.valueOf(o).isBlank();
+    }
+
+    private RoomCatalogue rooms(String path, String stay) {
+        Object listed = send("GET", path, null).get("rooms");
+        List<RoomCard> cards = new ArrayList<>();
+        if (listed instanceof List<?> rooms) {
+            for (Object o : rooms) {
+                if (!(o instanceof Map<?, ?> r)) continue;
+                Object id = r.get("roomid");
+                Object price = r.get("roomPrice");
+                cards.add(new RoomCard(cards.size(),
+                        r.get("type") == null ? "" : String.valueOf(r.get("type")),
+                        price instanceof Number n ? new BigDecimal(n.toString()) : null,
+                        true,
+                        id instanceof Number n ? baseUrl + "/reservation/" + n.intValue() + stay : ""));
+            }
+        }
+        Log.info(() -> "🧾 Rooms from " + path + ": " + cards);
+        return RoomCatalogue.of(cards);
+    }
+
+    private Map<String, Object> send(String method, String path, Object body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        if (body == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(JSON.toJson(body)));
+        }
+        long t0 = System.nanoTime();
+        HttpResponse<String> res;
+        try {
+            res = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new IllegalStateException(method + " " + path + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(method + " " + path + " interrupted", e);
+        }
+        long ms = (System.nanoTime() - t0) / 1_000_000;
+        Log.info(() -> "🌐 " + method + " " + path + " -> " + res.statusCode() + " (" + ms + " ms)");
+        if (res.statusCode() / 100 != 2) {
+            throw new IllegalStateException(method + " " + path + " -> " + res.statusCode() + ": " + res.body());
+        }
+        String text = res.body() == null ? "" : res.body().trim();
+        return text.startsWith("{") ? JSON.toType(text, Json.MAP_TYPE) : Map.of();
+    }
+}
@@ -0,0 +1,15 @@
+package flows;
+
+import pages.RoomCatalogue;
+
+import java.time.LocalDate;
+
+/** The "Our Rooms" listing of the home page, with and without a date search. */
+public interface RoomFlow {
+
+    /** Every room the site offers. */
+    RoomCatalogue listRooms();
+
+    /** Rooms offered for the stay, as after Check Availability in the booking widget. */
+    RoomCatalogue checkAvailability(LocalDate checkIn, LocalDate checkOut);
+}
@@ -0,0 +1,87 @@
+package flows;
+
+import org.openqa.selenium.WebDriver;
+import pages.BookingPage;
+import pages.ContactPage;
+import pages.HomePage;
+import pages.RoomCard;
+import pages.RoomCatalogue;
+import utils.Log;
+import utils.PageReadiness;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/** The flows through the page objects, in the scenario's browser: the same clicks and typing as the UI steps. */
+public final class SeleniumFlows implements Flows {
+
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final WebDriver driver;
+    private final String baseUrl;
+    private List<LocalDate> searched = List.of(); // dates the home page currently lists rooms for
+
+    public SeleniumFlows(WebDriver driver, String baseUrl) {
+        this.driver = driver;
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public String name() {
+        return "ui";
+    }
+
+    @Override
+    public RoomCatalogue listRooms() {
+        return openHome().readRoomCatalogue();
+    }
+
+    @Override
+    public RoomCatalogue checkAvailability(LocalDate checkIn, LocalDate checkOut) {
+        HomePage home = openHome();
+        home.scrollToBookingSection();
+        home.enterCheckInAndOutDates(checkIn.format(DMY), checkOut.format(DMY));
+        home.clickCheckAvailability();
+        searched = List.of(checkIn, checkOut);
+        return home.readRoomCatalogue();
+    }
+
+    @Override
+    public Confirmation book(RoomCard room, LocalDate checkIn, LocalDate checkOut, Guest guest) {
+        // straight from the search results when they are for this stay, otherwise search first
+        if (!searched.equals(List.of(checkIn, checkOut))) checkAvailability(checkIn, checkOut);
+        searched = List.of();
+        new HomePage(driver).clickBookNowForRoom(room.title());
+
+        BookingPage booking = new BookingPage(driver);
+        if (!booking.isLoaded()) throw new IllegalStateException("Booking page not loaded for room " + room.title());
+        booking.scrollToReserveButton();
+        booking.clickReserveNow();
+        booking.fillBookingForm(guest.firstName(), guest.lastName(), guest.email(), guest.phone());
+        booking.scrollToReserveButton();
+        booking.clickReserveNow();
+        if (!booking.isBookingConfirmedVisible()) throw new IllegalStateException("Booking was not confirmed");
+        String[] dates = booking.getConfirmedDatesIso();
+        if (dates.length < 2) throw new IllegalStateException("Booking confirmation shows no dates");
+        return new Confirmation(dates[0], dates[1]);
+    }
+
+    @Override
+    public Receipt sendMessage(Guest sender, String subject, String message) {
+        openHome().clickContactNav();
+        ContactPage contact = new ContactPage(driver);
+        contact.waitForContactSection();
+        contact.fillContactForm(sender.fullName(), sender.email(), sender.phone(), subject, message);
+        contact.clickSubmit();
+        return new Receipt(contact.getConfirmationHeading(), contact.getConfirmationSubject());
+    }
+
+    private HomePage openHome() {
+        HomePage home = new HomePage(driver);
+        Log.info(() -> "Opening: " + baseUrl);
+        PageReadiness.navigate(driver, baseUrl, "home", home::waitUntilReady);
+        searched = List.of();
+        return home;
+    }
+}
@@ -2,17 +2,29 @@ package pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import pages.components.BookingCard;
+import pages.components.Calendar;
+import utils.FormFiller;
+import utils.PageReadiness;
+import utils.PageText;
+import utils.PerfMetrics;
 import utils.WaitUtils;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import org.openqa.selenium.*;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import utils.Log;
 
 
 
@@ -25,85 +37,111 @@ public class BookingPage {
     private final WebDriver driver;
     private final WaitUtils wait;
 
-    // Headers / sections
-    private final By bookThisRoomHeader   = By.xpath("//*[self::h1 or self::h2 or self::h3][contains(.,'Book This Room')]");
-    private final By roomDescriptionBlock = By.xpath("//*[self::h2 or self::h3 or self::h4 or contains(@class,'card-title')][contains(.,'Room Description')]");
-    private final By perNightText         = By.xpath("//*[contains(.,'per night')]");
-    private final By priceSummaryBlock    = By.xpath("//*[contains(translate(., 'PRICE', 'price'),'price') and contains(translate(., 'SUMMARY', 'summary'),'summary')]");
+    // Headers, sections, prices, dates and calendar markers are read together by STATE_JS (see readState()).
+    // The walk is scoped to the app root and only visits headings and text nodes, never every ancestor.
+    private static final String APP_ROOT_CSS = "#root";
+    private static final String STATE_JS =
+            "var root = document.querySelector(arguments[0]) || document.body;" +
+            "function shown(e) { return !!e && getComputedStyle(e).visibility !== 'hidden'" +
+            "  && !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length); }" +
+            "function text(e) { return (e.textContent || '').replace(/\\s+/g, ' ').trim(); }" +
+            "var s = { header: '', headerVisible: false, roomDescriptionVisible: false, perNightText: ''," +
+            "          priceSummaryVisible: false, priceSummaryText: '', isoDates: [], dmyDates: [], selectedRangeMarkers: 0 };" +
+            "root.querySelectorAll('h1, h2, h3, h4, h5, .card-title').forEach(function (h) {" +
+            "  var t = text(h);" +
+            "  if (!s.headerVisible && /book this room/i.test(t)) { s.header = t; s.headerVisible = shown(h); }" +
+            "  if (/room description/i.test(t) && shown(h)) s.roomDescriptionVisible = true;" +
+            "  if (/price\\s*summary/i.test(t) && shown(h)) {" +
+            "    s.priceSummaryVisible = true; s.priceSummaryText = text(h.parentElement || h); }" +
+            "});" +
+            "var iso = {}, dmy = {}, n, w = document.createTreeWalker(root, NodeFilter.SHOW_TEXT);" +
+            "while ((n = w.nextNode())) {" +
+            "  var v = n.nodeValue, p = n.parentElement;" +
+            "  if (!p || !/[\\/-]|per night/i.test(v) || p.closest('script, style, noscript') || !shown(p)) continue;" +
+            "  if (!s.perNightText && /per night/i.test(v)) s.perNightText = text(p);" +
+            "  (v.match(/\\d{4}-\\d{2}-\\d{2}/g) || []).forEach(function (d) { iso[d] = 1; });" +
+            "  (v.match(/\\d{2}\\/\\d{2}\\/\\d{4}/g) || []).forEach(function (d) { dmy[d] = 1; });" +
+            "}" +
+            "s.isoDates = Object.keys(iso); s.dmyDates = Object.keys(dmy);" +
+            "root.querySelectorAll('.rbc-event-content').forEach(function (e) {" +
+            "  if (text(e) === 'Selected' && shown(e)) s.selectedRangeMarkers++; });" +
+            "return s;";
+
+    // Where the booked room is named: the room heading/description column and the booking card
+    private static final String ROOM_DETAILS_CSS = "#root h1, #root h2, #root .room-description, #root .booking-card";
+
+    // Right-hand booking card (header, form, confirmation) and the calendar it shows
+    private final BookingCard card;
+    private final Calendar calendar;
 
-    // Dates often appear as text or readonly inputs; we search broadly
-    private final By anyDateText = By.xpath("//*[contains(text(),'/') or contains(text(),'-')][not(self::script)]");
 
-    // Calendar (React Big Calendar)
-    private final By calendarContainer   = By.cssSelector(".rbc-calendar");
-    private final By monthViewContainer  = By.cssSelector(".rbc-month-view");
-    // The selected range shows as an event with text 'Selected'
-    private final By selectedEventLabels = By.xpath("//div[contains(@class,'rbc-event-content')][normalize-space()='Selected']");
-
-    // Booking form inputs (right-hand column)
-    private final By firstNameInput   = By.cssSelector("input[name='firstname']");
-    private final By lastNameInput    = By.cssSelector("input[name='lastname']");
-    private final By emailInput       = By.cssSelector("input[name='email']");
-    private final By phoneInput       = By.cssSelector("input[name='phone']");
-
-    // Reserve Now button
-    private final By reserveNowButton = By.xpath("//button[normalize-space()='Reserve Now']");
-
-    // --- Booking confirmation panel (right column card) ---
-    private final By bookingConfirmedHeader = By.xpath("//*[self::h2 or self::h3][contains(normalize-space(),'Booking Confirmed')]");
-    private final By confirmedDatesStrong   = By.xpath("//div[contains(@class,'booking-card')]//p[contains(@class,'text-center')]//strong"); // [0]=start [1]=end
-    private final By returnHomeButton       = By.xpath("//a[normalize-space()='Return home' or normalize-space()='Return Home']");
-
-    // Card that contains the Booking Confirmed content
-    private final By bookingConfirmedCard =
-            By.xpath("//*[self::h2 or self::h3][contains(normalize-space(),'Booking Confirmed')]/ancestor::div[contains(@class,'card')][1]");
-
-    // --- Locators (keep names meaningful) ---
-    private final By btnReserveNow = By.xpath("//button[normalize-space()='Reserve Now']");
+    public BookingPage(WebDriver driver) {
+        this.driver = driver;
+        this.wait   = new WaitUtils(driver);
+        this.card     = new BookingCard(driver, wait);
+        this.calendar = new Calendar(driver, wait);
+    }
 
-    // Covers most bootstrap-ish validation patterns: inline small/div, or alert summary list.
-    private final By anyValidationMsg = By.cssSelector(
-            "form .invalid-feedback, " +        // inline under inputs
-                    "form .text-danger, " +             // common inline class
-                    "form .alert-danger, " +            // summary block
-                    "form .alert-danger li, " +         // summary list items
-                    "form small.text-danger"            // small red text
-    );
+    /**
+     * Reads header, room description, per-night price, price summary, visible dates and
+     * selected-range markers in a single executeScript call.
+     */
+    public BookingPageState readState() {
+        Map<?, ?> s = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(STATE_JS, APP_ROOT_CSS);
+        return new BookingPageState(
+                String.valueOf(s.get("header")),
+                Boolean.TRUE.equals(s.get("headerVisible")),
+                Boolean.TRUE.equals(s.get("roomDescriptionVisible")),
+                String.valueOf(s.get("perNightText")),
+                Boolean.TRUE.equals(s.get("priceSummaryVisible")),
+                String.valueOf(s.get("priceSummaryText")),
+                strings(s.get("isoDates")),
+                strings(s.get("dmyDates")),
+                ((Number) s.get("selectedRangeMarkers")).intValue());
+    }
 
-    // --- Locators ---
-    private final By btnCancel = By.xpath("//button[normalize-space()='Cancel']");
-    private final By hdrBookThisRoom = By.xpath("//*[self::h2 or self::h3][normalize-space()='Book This Room']");
+    // Re-reads the snapshot until it satisfies the check (React renders sections asynchronously)
+    private BookingPageState waitForState(Predicate<BookingPageState> ready) {
+        return wait.until(d -> {
+            BookingPageState state = readState();
+            return ready.test(state) ? state : null;
+        });
+    }
 
+    private static List<String> strings(Object raw) {
+        List<String> out = new ArrayList<>();
+        if (raw instanceof List<?> list) for (Object o : list) out.add(String.valueOf(o));
+        return out;
+    }
 
-    public BookingPage(WebDriver driver) {
-        this.driver = driver;
-        this.wait   = new WaitUtils(driver);
+    /** Usable once the availability calendar has rendered; the room image may still be loading. */
+    public void waitUntilReady() {
+        calendar.root();
     }
 
     public boolean isLoaded() {
-        System.out.println("Waiting for 'Book This Room' header...");
-        wait.waitForVisibility(bookThisRoomHeader);
-        boolean bookHeaderVisible  = driver.findElement(bookThisRoomHeader).isDisplayed();
-        System.out.println("Book This Room' visible: " + bookHeaderVisible );
+        Log.info("Waiting for 'Book This Room' header...");
+        boolean bookHeaderVisible = waitForState(BookingPageState::headerVisible).headerVisible();
+        PerfMetrics.observe(driver);
+        Log.info(() -> "Book This Room' visible: " + bookHeaderVisible );
         return bookHeaderVisible ;
     }
 
     public boolean isRoomDescriptionVisible() {
-        System.out.println("🔎 Checking 'Room Description' section...");
-        wait.waitForVisibility(roomDescriptionBlock);
-        return driver.findElement(roomDescriptionBlock).isDisplayed();
+        Log.info("🔎 Checking 'Room Description' section...");
+        return waitForState(BookingPageState::roomDescriptionVisible).roomDescriptionVisible();
     }
 
     public boolean isPerNightShown() {
-        System.out.println("🔎 Checking 'per night' text...");
-        wait.waitForVisibility(perNightText);
-        return driver.findElement(perNightText).isDisplayed();
+        Log.info("🔎 Checking 'per night' text...");
+        BookingPageState state = waitForState(BookingPageState::isPerNightShown);
+        Log.info(() -> "Per-night text: " + state.perNightText());
+        return state.isPerNightShown();
     }
 
     public boolean isPriceSummaryVisible() {
-        System.out.println("🔎 Checking 'Price Summary'...");
-        wait.waitForVisibility(priceSummaryBlock);
-        return driver.findElement(priceSummaryBlock).isDisplayed();
+        Log.info("🔎 Checking 'Price Summary'...");
+        return waitForState(BookingPageState::priceSummaryVisible).priceSummaryVisible();
     }
 
     /**
@@ -111,21 +149,37 @@ public class BookingPage {
      * We keep this generic because the site may render dates as dd/MM/yyyy or yyyy-MM-dd.
      */
     public String grabAllVisibleDateText() {
-        System.out.println("Grabbing visible text nodes that look like dates...");
-        return driver.findElements(anyDateText)
-                .stream()
-                .map(e -> e.getText().trim())
-                .filter(t -> !t.isEmpty())
-                .reduce("", (a, b) -> a + " | " + b);
+        Log.info("Grabbing visible text nodes that look like dates...");
+        return readState().datesText();
     }
 
     /**
-     * A simple contains check that the selected room title is somewhere on the page.
-     * e.g., "Single" or "Single Room".
+     * Where the selected room title (e.g., "Single" or "Single Room") appears in the room details
+     * and booking card. The search runs in the browser; only match locations come back.
      */
+    public List<PageText.TextMatch> findRoomTitle(String roomTitle) {
+        List<PageText.TextMatch> matches = PageText.find(driver, ROOM_DETAILS_CSS, roomTitle);
+        Log.info(() -> "Room title '" + roomTitle + "' found at: " + matches);
+        return matches;
+    }
+
+    /** A simple contains check that the selected room title is shown in the room details. */
     public boolean pageContainsRoomTitle(String roomTitle) {
-        String text = driver.getPageSource();
-        return text.toLowerCase().contains(roomTitle.toLowerCase());
+        return !findRoomTitle(roomTitle).isEmpty();
+    }
+
+    /**
+     * Deep link to the reservation page, e.g. {baseUrl}/reservation/1?checkin=2025-11-09&checkout=2025-11-10.
+     * This is the URL "Book now" lands on, so the page renders the same calendar and price summary
+     * without going through the home page first.
+     */
+    public void openDirect(String baseUrl, int roomId, LocalDate checkIn, LocalDate checkOut) {
+        String root = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        String url = root + "/reservation/" + roomId
+                + "?checkin=" + checkIn.format(DateTimeFormatter.ISO_LOCAL_DATE)
+                + "&checkout=" + checkOut.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        Log.info(() -> "Opening booking page directly: " + url);
+        PageReadiness.navigate(driver, url, "booking", this::waitUntilReady);
     }
 
     public String currentUrl() {
@@ -144,7 +198,7 @@ public class BookingPage {
                 }
             }
         } catch (Exception e) {
-            System.out.println("Could not parse URL query: " + e.getMessage());
+            Log.warn(() -> "Could not parse URL query: " + e.getMessage());
         }
         return null;
     }
@@ -153,18 +207,16 @@ public class BookingPage {
 
 
     public void scrollCalendarIntoView() {
-        System.out.println("Scrolling calendar into view...");
-        WebElement cal = wait.waitForVisibility(calendarContainer);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", cal);
-        try { Thread.sleep(200); } catch (InterruptedException ignored) {}
+        Log.info("Scrolling calendar into view...");
+        calendar.scrollIntoView("center");
     }
 
     /** Returns how many 'Selected' event chips are visible (the highlighted range). */
     public int countSelectedRangeMarkers() {
-        wait.waitForVisibility(calendarContainer);
-        List<WebElement> events = driver.findElements(selectedEventLabels);
-        System.out.println(" 'Selected' event markers found: " + events.size());
-        return events.size();
+        calendar.element(Calendar.MONTH_VIEW);
+        int markers = readState().selectedRangeMarkers();
+        Log.info(() -> " 'Selected' event markers found: " + markers);
+        return markers;
     }
 
     /** Returns true if a month-cell button exists with the given day number (e.g., 9, 10). */
@@ -182,51 +234,39 @@ public class BookingPage {
     /** Returns true if a month-cell button exists with the given day number.
      *  Handles zero-padded labels like 03, 09 in React Big Calendar. */
     public boolean isDayNumberVisibleInMonth(int dayNumber) {
-        wait.waitForVisibility(monthViewContainer);
-
-        String d1 = String.valueOf(dayNumber);          // e.g., "9"
-        String d2 = String.format("%02d", dayNumber);   // e.g., "09"
+        calendar.element(Calendar.MONTH_VIEW);
 
-        By dayBtn = By.xpath(
-                "//div[contains(@class,'rbc-month-view')]//button[@type='button' and " +
-                        "(normalize-space()='" + d1 + "' or normalize-space()='" + d2 + "')]"
-        );
-
-        List<WebElement> els = driver.findElements(dayBtn); // find matching buttons
+        List<WebElement> els = calendar.dayButtonsNow(dayNumber); // probe: returns at once when the day is absent
         boolean visible = !els.isEmpty() && els.get(0).isDisplayed(); //
-        System.out.println("Day button match for '" + d1 + "' or '" + d2 + "': " + visible);
+        Log.info(() -> "Day button match for '" + dayNumber + "' (plain or zero-padded): " + visible);
 
         // Helpful debug: if not found, print all visible day labels
         if (!visible) {
-            List<WebElement> all = driver.findElements(
-                    By.xpath("//div[contains(@class,'rbc-month-view')]//button[@type='button']")
-            );
+            List<WebElement> all = calendar.elementsNow(Calendar.DAY_BUTTONS);
             String labels = all.stream().map(e -> e.getText().trim()).collect(Collectors.joining(", "));
-            System.out.println("🧾 Visible day buttons: [" + labels + "]");
+            Log.info(() -> "🧾 Visible day buttons: [" + labels + "]");
         }
         return visible;
     }
 
     public void scrollToReserveButton() {
-        System.out.println("🧭 Scrolling to 'Reserve Now' button...");
-        WebElement button = wait.waitForVisibility(reserveNowButton);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", button);
-        try { Thread.sleep(200); } catch (InterruptedException ignored) {}
+        Log.info("🧭 Scrolling to 'Reserve Now' button...");
+        card.scrolledTo(BookingCard.RESERVE_NOW);
     }
 
     public void clickReserveNow() {
-        System.out.println("🖱️ Clicking 'Reserve Now'…");
-        wait.waitForClickability(reserveNowButton).click();
-        System.out.println("✅ Clicked 'Reserve Now'.");
+        Log.info("🖱️ Clicking 'Reserve Now'…");
+        card.element(BookingCard.RESERVE_NOW).click();
+        Log.info("✅ Clicked 'Reserve Now'.");
     }
 
     public boolean areBookingFieldsVisible() {
-        System.out.println("Verifying booking form fields are visible…");
-        boolean fn = wait.waitForVisibility(firstNameInput).isDisplayed();
-        boolean ln = wait.waitForVisibility(lastNameInput).isDisplayed();
-        boolean em = wait.waitForVisibility(emailInput).isDisplayed();
-        boolean ph = wait.waitForVisibility(phoneInput).isDisplayed();
-        System.out.println("🧾 Visibility → first:" + fn + ", last:" + ln + ", email:" + em + ", phone:" + ph);
+        Log.info("Verifying booking form fields are visible…");
+        boolean fn = card.element(BookingCard.FIRST_NAME).isDisplayed();
+        boolean ln = card.element(BookingCard.LAST_NAME).isDisplayed();
+        boolean em = card.element(BookingCard.EMAIL).isDisplayed();
+        boolean ph = card.element(BookingCard.PHONE).isDisplayed();
+        Log.info(() -> "🧾 Visibility → first:" + fn + ", last:" + ln + ", email:" + em + ", phone:" + ph);
         return fn && ln && em && ph;
     }
 
@@ -241,13 +281,13 @@ public class BookingPage {
     */
 
     private void clearAndType(By locator, String text) {
-        WebElement field = bringIntoView(locator);
+        WebElement field = card.scrolledTo(locator);
 
         // Try a normal click; if the navbar intercepts, JS-click.
         try {
-            wait.waitForClickability(locator).click();
+            field.click();
         } catch (ElementClickInterceptedException e) {
-            System.out.println("Click intercepted by sticky header. Using JS click for: " + locator);
+            Log.warn(() -> "Click intercepted by sticky header. Using JS click for: " + locator);
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", field);
         }
 
@@ -264,57 +304,56 @@ public class BookingPage {
             field.sendKeys(text);
             field.sendKeys(Keys.TAB);
         } catch (Exception ignored) {
-            System.out.println("sendKeys failed, setting value via JS for: " + locator);
+            Log.warn(() -> "sendKeys failed, setting value via JS for: " + locator);
             ((JavascriptExecutor) driver).executeScript(
                     "arguments[0].value = arguments[1]; arguments[0].dispatchEvent(new Event('input',{bubbles:true}));",
                     field, text
             );
         }
 
-        System.out.println("Typed '" + text + "' into: " + locator);
+        Log.debug(() -> "Typed '" + text + "' into: " + locator);
     }
 
     public void fillBookingForm(String firstName, String lastName, String emailAddr, String phoneNumber) {
-        System.out.println("Filling booking form with generated values…");
-        clearAndType(firstNameInput, firstName);
-        clearAndType(lastNameInput,  lastName);
-        clearAndType(emailInput,     emailAddr);
-        clearAndType(phoneInput,     phoneNumber);
-        System.out.println("Booking form filled.");
-    }
-
-    private WebElement bringIntoView(By locator) {
-        WebElement element = wait.waitForVisibility(locator);
-        ((JavascriptExecutor) driver)
-                .executeScript("arguments[0].scrollIntoView({block:'center', inline:'nearest'});", element);
-        try { Thread.sleep(200); } catch (InterruptedException ignored) {}
-        return element;
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(BookingCard.FIRST_NAME, firstName);
+        fields.put(BookingCard.LAST_NAME,  lastName);
+        fields.put(BookingCard.EMAIL,      emailAddr);
+        fields.put(BookingCard.PHONE,      phoneNumber);
+
+        FormFiller.Mode mode = FormFiller.Mode.current();
+        Log.info(() -> "Filling booking form with generated values (" + mode + ")…");
+        if (mode == FormFiller.Mode.BATCH) {
+            // one browser call for all fields; retype only what didn't stick
+            FormFiller.fillBatch(driver, wait, card.root(), fields).forEach(f -> clearAndType(f, fields.get(f)));
+        } else {
+            fields.forEach(this::clearAndType);
+        }
+        Log.info("Booking form filled.");
     }
 
     public boolean isBookingConfirmedVisible() {
-        System.out.println("🔎 Waiting for 'Booking Confirmed' panel...");
-        wait.waitForVisibility(bookingConfirmedHeader);
-        return driver.findElement(bookingConfirmedHeader).isDisplayed();
+        Log.info("🔎 Waiting for 'Booking Confirmed' panel...");
+        return card.element(BookingCard.CONFIRMED_HEADER).isDisplayed();
     }
 
     public String getConfirmedStartIso() {
-        wait.waitForVisibility(confirmedDatesStrong);
-        return driver.findElements(confirmedDatesStrong).get(0).getText().trim(); // e.g., 2025-11-04
+        card.element(BookingCard.CONFIRMED_DATES);
+        return card.elementsNow(BookingCard.CONFIRMED_DATES).get(0).getText().trim(); // e.g., 2025-11-04
     }
 
     public String getConfirmedEndIso() {
-        wait.waitForVisibility(confirmedDatesStrong);
-        return driver.findElements(confirmedDatesStrong).get(1).getText().trim(); // e.g., 2025-11-05
+        card.element(BookingCard.CONFIRMED_DATES);
+        return card.elementsNow(BookingCard.CONFIRMED_DATES).get(1).getText().trim(); // e.g., 2025-11-05
     }
 
     /** Returns [checkinISO, checkoutISO] by regex-parsing the confirmation card text.
      *  Works whether the UI shows one or two <strong> nodes. */
 
     public String[] getConfirmedDatesIso() {
-        wait.waitForVisibility(bookingConfirmedCard);
-        WebElement card = driver.findElement(bookingConfirmedCard);
-        String cardText = card.getText();
-        System.out.println("📋 Confirmation card text:\n" + cardText);
+        card.element(BookingCard.CONFIRMED_HEADER);
+        String cardText = card.root().getText();
+        Log.info(() -> "📋 Confirmation card text:\n" + cardText);
 
         // 1) Primary: regex over the card text (matches both "YYYY-MM-DD - YYYY-MM-DD" and two lines)
         Pattern iso = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
@@ -323,73 +362,69 @@ public class BookingPage {
         while (m.find()) found.add(m.group());
 
         if (found.size() >= 2) {
-            System.out.println("Parsed ISO dates from card text: " + found.get(0) + " → " + found.get(1));
+            Log.info(() -> "Parsed ISO dates from card text: " + found.get(0) + " → " + found.get(1));
             return new String[]{ found.get(0), found.get(1) };
         }
 
         // 2) Fallback: try the <strong> nodes (sometimes the app renders two)
-        var strongs = driver.findElements(confirmedDatesStrong);
+        var strongs = card.elementsNow(BookingCard.CONFIRMED_DATES);
         if (strongs.size() >= 2) {
             String s = strongs.get(0).getText().trim();
             String e = strongs.get(1).getText().trim();
-            System.out.println("Parsed ISO dates from <strong> nodes: " + s + " → " + e);
+            Log.info(() -> "Parsed ISO dates from <strong> nodes: " + s + " → " + e);
             return new String[]{ s, e };
         } else if (strongs.size() == 1) {
             String s = strongs.get(0).getText().trim();
-            System.out.println("Only one <strong> node found: " + s);
+            Log.info(() -> "Only one <strong> node found: " + s);
             return new String[]{ s, "" };
         }
 
-        System.out.println("Could not find two ISO dates on the confirmation card.");
+        Log.warn("Could not find two ISO dates on the confirmation card.");
         return new String[0];
     }
 
 
     public boolean isReturnHomeShown() {
-        wait.waitForVisibility(returnHomeButton);
-        return driver.findElement(returnHomeButton).isDisplayed();
+        return card.element(BookingCard.RETURN_HOME).isDisplayed();
     }
 
     public void clickReturnHome() {
-        System.out.println("🖱️ Clicking 'Return home'...");
-        WebElement btn = wait.waitForVisibility(returnHomeButton);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", btn);
-        try { wait.waitForClickability(returnHomeButton).click(); }
+        Log.info("🖱️ Clicking 'Return home'...");
+        WebElement btn = card.scrolledTo(BookingCard.RETURN_HOME);
+        try { btn.click(); }
         catch (ElementClickInterceptedException e) {
-            System.out.println("⚠️ Intercepted — using JS click for Return home");
+            Log.warn("⚠️ Intercepted — using JS click for Return home");
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
         }
-        System.out.println("✅ 'Return home' clicked.");
+        Log.info("✅ 'Return home' clicked.");
     }
 
     // Returns all validation texts currently visible in the booking form
     public List<String> getValidationMessages() {
-        System.out.println("🧾 Collecting validation messages...");
+        Log.info("🧾 Collecting validation messages...");
         // Short, local wait until any validation appears
         new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(5))
-                .until(d -> !d.findElements(anyValidationMsg).isEmpty());
+                .until(d -> !card.elementsNow(BookingCard.VALIDATION_MESSAGES).isEmpty());
 
-        List<String> messages = driver.findElements(anyValidationMsg).stream()
+        List<String> messages = card.elementsNow(BookingCard.VALIDATION_MESSAGES).stream()
                 .map(WebElement::getText)
                 .map(String::trim)
                 .filter(s -> !s.isBlank())
                 .distinct()
                 .toList();
 
-        System.out.println("👉 Found validation messages: " + messages);
+        Log.info(() -> "👉 Found validation messages: " + messages);
         return messages;
     }
 
     // --- Actions ---
     public void clickCancelBooking() {
-        System.out.println("🛑 Clicking 'Cancel' to abort booking...");
-        WebElement btn = wait.waitForVisibility(btnCancel);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", btn);
-        ((JavascriptExecutor) driver).executeScript("window.scrollBy(0,-120);"); // avoid sticky header
+        Log.info("🛑 Clicking 'Cancel' to abort booking...");
+        WebElement btn = card.scrolledTo(BookingCard.CANCEL); // settles clear of the sticky header
         try {
-            wait.waitForClickability(btnCancel).click();
+            btn.click();
         } catch (ElementClickInterceptedException e) {
-            System.out.println("⚠️ Interception detected; using JS click.");
+            Log.warn("⚠️ Interception detected; using JS click.");
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
         }
     }
@@ -0,0 +1,39 @@
+package pages;
+
+import java.util.List;
+
+/**
+ * Everything the booking-page checks need, collected in one browser-side pass.
+ * Text fields are "" when the part is not on the page; date lists hold each date once.
+ */
+public record BookingPageState(
+        String header,
+        boolean headerVisible,
+        boolean roomDescriptionVisible,
+        String perNightText,
+        boolean priceSummaryVisible,
+        String priceSummaryText,
+        List<String> isoDates,   // yyyy-MM-dd
+        List<String> dmyDates,   // dd/MM/yyyy
+        int selectedRangeMarkers) {
+
+    public BookingPageState {
+        isoDates = List.copyOf(isoDates);
+        dmyDates = List.copyOf(dmyDates);
+    }
+
+    public boolean isPerNightShown() {
+        return !perNightText.isBlank();
+    }
+
+    /** True if both dates are visible on the page, in either ISO or dd/MM/yyyy form. */
+    public boolean showsDates(String first, String second) {
+        return (isoDates.contains(first) || dmyDates.contains(first))
+                && (isoDates.contains(second) || dmyDates.contains(second));
+    }
+
+    /** Visible dates joined for assertion messages. */
+    public String datesText() {
+        return String.join(" | ", isoDates) + (isoDates.isEmpty() || dmyDates.isEmpty() ? "" : " | ") + String.join(" | ", dmyDates);
+    }
+}
@@ -1,58 +1,47 @@
 package pages;
 
 import org.openqa.selenium.*;
+import pages.components.ContactSection;
+import utils.FormFiller;
 import utils.WaitUtils;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import utils.Log;
+
 public class ContactPage {
     private final WebDriver driver;
     private final WaitUtils wait;
 
-    // ====== Locators ======
-    private final By contactSection     = By.cssSelector("section#contact");
-    private final By contactHeading     = By.xpath("//section[@id='contact']//h3[contains(normalize-space(),'Send Us a Message')]");
-
-    // Inputs (support both testid and id to be resilient)
-    private final By nameInput          = By.cssSelector("input[data-testid='ContactName'],  #name");
-    private final By emailInput         = By.cssSelector("input[data-testid='ContactEmail'], #email");
-    private final By phoneInput         = By.cssSelector("input[data-testid='ContactPhone'], #phone");
-    private final By subjectInput       = By.cssSelector("input[data-testid='ContactSubject'], #subject");
-    private final By messageTextarea    = By.cssSelector("textarea[data-testid='ContactDescription'], textarea#description");
-
-    private final By submitButton       = By.xpath("//section[@id='contact']//button[normalize-space()='Submit']");
-    private final By btnSubmit          = By.xpath("//section[@id='contact']//button[normalize-space()='Submit']");
-
-    // Confirmation (after submit)
-    private final By confirmHeading     = By.xpath("//h3[starts-with(normalize-space(),'Thanks for getting in touch')]");
-    // The subject appears in a bold-style paragraph just under the “we’ll get back to you” line
-    private final By confirmSubjectBold = By.xpath("//h3[starts-with(normalize-space(),'Thanks for getting in touch')]/following::p[contains(translate(@style,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'font-weight')][1]");
+    // ====== Section ======
+    // Locators live on ContactSection and are searched from section#contact, not the whole page
+    private final ContactSection section;
 
     public ContactPage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WaitUtils(driver);
+        this.section = new ContactSection(driver, wait);
     }
 
     // ====== Actions / Assertions ======
     public void waitForContactSection() {
-        System.out.println("🔎 Waiting for Contact section...");
-        wait.waitForVisibility(contactSection);
-        wait.waitForVisibility(contactHeading);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'start'});",
-                driver.findElement(contactSection));
+        Log.info("🔎 Waiting for Contact section...");
+        section.element(ContactSection.HEADING);
+        section.scrollIntoView("start");
     }
 
     public boolean areAllFieldsVisible() {
-        System.out.println("🧾 Verifying all Contact fields are visible…");
-        return wait.waitForVisibility(nameInput).isDisplayed()
-                && wait.waitForVisibility(emailInput).isDisplayed()
-                && wait.waitForVisibility(phoneInput).isDisplayed()
-                && wait.waitForVisibility(subjectInput).isDisplayed()
-                && wait.waitForVisibility(messageTextarea).isDisplayed();
+        Log.info("🧾 Verifying all Contact fields are visible…");
+        return section.element(ContactSection.NAME).isDisplayed()
+                && section.element(ContactSection.EMAIL).isDisplayed()
+                && section.element(ContactSection.PHONE).isDisplayed()
+                && section.element(ContactSection.SUBJECT).isDisplayed()
+                && section.element(ContactSection.MESSAGE).isDisplayed();
     }
 
     private void clearAndType(By locator, String text) {
-        WebElement field = wait.waitForVisibility(locator);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", field);
-        try { wait.waitForClickability(locator).click(); }
+        WebElement field = section.scrolledTo(locator);
+        try { field.click(); }
         catch (ElementClickInterceptedException e) {
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", field);
         }
@@ -63,17 +52,26 @@ public class ContactPage {
         field.sendKeys(Keys.BACK_SPACE);
         field.clear();
         field.sendKeys(text);
-        System.out.println("✍🏽 Typed '" + text + "' into: " + locator);
+        Log.debug(() -> "✍🏽 Typed '" + text + "' into: " + locator);
     }
 
     public void fillContactForm(String fullName, String emailAddr, String phoneNum, String subjectText, String messageText) {
-        System.out.println("🧰 Filling Contact form with generated values…");
-        clearAndType(nameInput,       fullName);
-        clearAndType(emailInput,      emailAddr);
-        clearAndType(phoneInput,      phoneNum);
-        clearAndType(subjectInput,    subjectText);
-        clearAndType(messageTextarea, messageText);
-        System.out.println("Contact form filled.");
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(ContactSection.NAME,    fullName);
+        fields.put(ContactSection.EMAIL,   emailAddr);
+        fields.put(ContactSection.PHONE,   phoneNum);
+        fields.put(ContactSection.SUBJECT, subjectText);
+        fields.put(ContactSection.MESSAGE, messageText);
+
+        FormFiller.Mode mode = FormFiller.Mode.current();
+        Log.info(() -> "🧰 Filling Contact form with generated values (" + mode + ")…");
+        if (mode == FormFiller.Mode.BATCH) {
+            // one browser call for all fields; retype only what didn't stick
+            FormFiller.fillBatch(driver, wait, section.root(), fields).forEach(f -> clearAndType(f, fields.get(f)));
+        } else {
+            fields.forEach(this::clearAndType);
+        }
+        Log.info("Contact form filled.");
     }
 
     /*
@@ -86,39 +84,34 @@ public class ContactPage {
     } */
 
     public void clickSubmit() {
-        System.out.println("🖱️ Clicking Submit...");
+        Log.info("🖱️ Clicking Submit...");
 
-        WebElement btn = wait.waitForVisibility(btnSubmit);
-
-        // 1) bring to view, then nudge up so sticky elements don't cover it
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", btn);
-        ((JavascriptExecutor) driver).executeScript("window.scrollBy(0,-120);");  // small offset
+        // 1) bring to view and let it settle clear of the sticky navbar
+        WebElement btn = section.scrolledTo(ContactSection.SUBMIT);
 
         try {
-            wait.waitForClickability(btnSubmit).click();                 // 2) normal click
-            System.out.println("Submit clicked (native).");
+            btn.click();                 // 2) normal click
+            Log.info("Submit clicked (native).");
         } catch (ElementClickInterceptedException e1) {
-            System.out.println("Intercepted. Trying Actions click...");
+            Log.warn("Intercepted. Trying Actions click...");
             try {
                 new org.openqa.selenium.interactions.Actions(driver)
                         .moveToElement(btn, 3, 3).click().perform();     // 3) Actions click
-                System.out.println("Submit clicked (Actions).");
+                Log.info("Submit clicked (Actions).");
             } catch (Exception e2) {
-                System.out.println("Still intercepted. Using JS click.");
+                Log.warn("Still intercepted. Using JS click.");
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn); // 4) JS fallback
-                System.out.println("Submit clicked (JS).");
+                Log.info("Submit clicked (JS).");
             }
         }
     }
 
     public String getConfirmationHeading() {
-        wait.waitForVisibility(confirmHeading);
-        return driver.findElement(confirmHeading).getText().trim();
+        return section.element(ContactSection.CONFIRM_HEADING).getText().trim();
     }
 
     public String getConfirmationSubject() {
-        wait.waitForVisibility(confirmSubjectBold);
-        return driver.findElement(confirmSubjectBold).getText().trim();
+        return section.element(ContactSection.CONFIRM_SUBJECT).getText().trim();
     }
 }
 
@@ -7,8 +7,16 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.ElementClickInterceptedException;
 import utils.WaitUtils;
 import org.openqa.selenium.Keys;
+import pages.components.BookingWidget;
+import pages.components.Navbar;
+import pages.components.RoomsSection;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import utils.Log;
+import utils.PageReadiness;
+import utils.PerfMetrics;
 
 /**
  * HomePage class (Page Object Model)
@@ -23,138 +31,126 @@ public class HomePage {
     //  Updated locator using CSS Selector (more reliable than XPath)
     private By headerText = By.cssSelector("h1.display-4.fw-bold.mb-4");
 
-    // Locators for Check Availability section
-    private By bookingSection        = By.cssSelector("section#booking");
-    private By bookingSectionTitle   = By.cssSelector("section#booking h3.card-title");
-
-    private By checkInInput = By.xpath("//label[@for='checkin']/following-sibling::div//input");
-    private By checkOutInput = By.xpath("//label[@for='checkout']/following-sibling::div//input");
-    private By checkAvailabilityBtn = By.xpath("//button[contains(text(),'Check Availability')]");
-    private By ourRoomsHeader = By.cssSelector("h2.display-5");
-
-    // ----- Our Rooms grid -----
-    private By roomsSection    = By.cssSelector("section#rooms");
-    private By roomCards       = By.cssSelector("section#rooms .room-card");  // each card
-    private By roomTitleInCard = By.cssSelector("h5.card-title");             // e.g., Single / Double / Suite
-    private By roomPriceInCard = By.cssSelector(".fw-bold.fs-5");             // e.g., £100
-    private By bookNowInCard   = By.cssSelector("a.btn.btn-primary");         // "Book now" link
-
-    // --- add near your other locators ---
-    private By navContactLink = By.cssSelector("a[href='#contact']");
+    // Page sections (each searches from its own root and caches its elements)
+    private final Navbar navbar;
+    private final BookingWidget bookingWidget;   // "Check Availability & Book Your Stay"
+    private final RoomsSection rooms;            // "Our Rooms" grid
 
 
     // Constructor
     public HomePage(WebDriver driver) {
         this.driver = driver;
         this.waitUtils = new WaitUtils(driver);  // Initialize WaitUtils
+        this.navbar = new Navbar(driver, waitUtils);
+        this.bookingWidget = new BookingWidget(driver, waitUtils);
+        this.rooms = new RoomsSection(driver, waitUtils);
     }
 
     // Navigate to the main home page
     public void navigateToHomePage() {
-        System.out.println("Navigating to Shady Meadows B&B...");
-        driver.get("https://automationintesting.online/");
+        Log.info("Navigating to Shady Meadows B&B...");
+        PageReadiness.navigate(driver, "https://automationintesting.online/", "home", this::waitUntilReady);
         driver.manage().window().maximize();
-        System.out.println("Page loaded successfully!");
+        Log.info("Page ready!");
 
         // Optional: Handle cookie consent popup if present
         try {
             By cookieBtn = By.cssSelector("button.fc-cta-consent");
-            if (driver.findElements(cookieBtn).size() > 0) {
-                driver.findElement(cookieBtn).click();
-                System.out.println("Cookie consent banner dismissed!");
-            }
+            waitUtils.findNow(driver, cookieBtn).ifPresent(btn -> {
+                btn.click();
+                Log.info("Cookie consent banner dismissed!");
+            });
         } catch (Exception e) {
-            System.out.println("No cookie banner found (skipping).");
+            Log.info("No cookie banner found (skipping).");
         }
     }
 
+    /** Usable once React has mounted the booking widget; images and fonts may still be loading. */
+    public void waitUntilReady() {
+        bookingWidget.root();
+    }
+
     // Get page title
     public String getPageTitle() {
         String title = driver.getTitle();
-        System.out.println("Page Title: " + title);
+        Log.info(() -> "Page Title: " + title);
         return title;
     }
 
     //  Wait for header and verify visibility
     public boolean verifyHeaderText() {
-        System.out.println("Checking if header text is visible...");
-        waitUtils.waitForVisibility(headerText); // Wait for header
-        boolean visible = driver.findElement(headerText).isDisplayed();
-        System.out.println("Header displayed: " + visible);
+        Log.info("Checking if header text is visible...");
+        boolean visible = waitUtils.waitForVisibility(headerText).isDisplayed(); // use the element the wait returned
+        Log.info(() -> "Header displayed: " + visible);
         return visible;
     }
 
     // Wait for and get the header text
     public String getHeaderText() {
-        System.out.println("🔍 Waiting for header text...");
-        waitUtils.waitForVisibility(headerText);
-        String header = driver.findElement(headerText).getText().trim();
-        System.out.println("Header text found: " + header);
+        Log.info("🔍 Waiting for header text...");
+        String header = waitUtils.waitForVisibility(headerText).getText().trim();
+        Log.info(() -> "Header text found: " + header);
         return header;
     }
 
 
     // Click the "Check Availability" button safely
     public void clickCheckAvailability() {
-        System.out.println(" Attempting to click 'Check Availability' button...");
+        Log.info(" Attempting to click 'Check Availability' button...");
 
         try {
-            // Wait for button to become clickable
-            WebElement button = waitUtils.waitForClickability(checkAvailabilityBtn);
+            // Wait for button to become visible (cached for the JS fallback below)
+            WebElement button = bookingWidget.element(BookingWidget.CHECK_AVAILABILITY);
 
-            // Scroll the button into view (important on Mac/Chrome)
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", button);
-            Thread.sleep(500); // short pause for smooth scroll
+            // Scroll the button into view (important on Mac/Chrome) and wait for the scroll to settle
+            waitUtils.scrollIntoViewSettled(button, "start");
+            PerfMetrics.startInteraction(driver, "rooms", RoomsSection.ROOT_CSS); // times the "Our Rooms" re-render
 
             // Try normal click first
             button.click();
-            System.out.println("'Check Availability' button clicked successfully!");
+            Log.info("'Check Availability' button clicked successfully!");
 
         } catch (ElementClickInterceptedException e) {
-            System.out.println("⚠️ Click intercepted! Trying JavaScript click instead...");
-            WebElement button = driver.findElement(checkAvailabilityBtn);
+            Log.warn("⚠️ Click intercepted! Trying JavaScript click instead...");
+            WebElement button = bookingWidget.element(BookingWidget.CHECK_AVAILABILITY);
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
-            System.out.println("Fallback JS click worked!");
+            Log.info("Fallback JS click worked!");
 
         } catch (Exception e) {
-            System.out.println("Error while clicking 'Check Availability': " + e.getMessage());
+            Log.warn(() -> "Error while clicking 'Check Availability': " + e.getMessage());
         }
     }
 
     public String getSectionText() {
-        System.out.println("🔍 Waiting for and getting section header text...");
-        waitUtils.waitForVisibility(ourRoomsHeader);
-        String sectionHeader = driver.findElement(ourRoomsHeader).getText().trim();
-        System.out.println("Section header text found: " + sectionHeader);
+        Log.info("🔍 Waiting for and getting section header text...");
+        String sectionHeader = rooms.element(RoomsSection.HEADER).getText().trim();
+        Log.info(() -> "Section header text found: " + sectionHeader);
         return sectionHeader;
     }
 
     // Scroll to the booking section ("Check Availability & Book Your Stay")
     public void scrollToBookingSection() {
-        System.out.println("Scrolling to 'Check Availability & Book Your Stay' section...");
-        WebElement section = waitUtils.waitForVisibility(bookingSection);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", section);
-        try { Thread.sleep(500); } catch (InterruptedException ignored) {}
-        System.out.println("Reached the booking section.");
+        Log.info("Scrolling to 'Check Availability & Book Your Stay' section...");
+        bookingWidget.scrollIntoView("start");
+        Log.info("Reached the booking section.");
     }
 
     // Return the booking section title text (e.g., "Check Availability & Book Your Stay")
     public String getBookingSectionTitle() {
-        waitUtils.waitForVisibility(bookingSectionTitle);
-        String text = driver.findElement(bookingSectionTitle).getText().trim();
-        System.out.println("Booking section title: " + text);
+        String text = bookingWidget.element(BookingWidget.TITLE).getText().trim();
+        Log.info(() -> "Booking section title: " + text);
         return text;
     }
 
     // Return values of the date fields (used to assert defaults)
     public String getDefaultCheckIn() {
-        String val = waitUtils.waitForVisibility(checkInInput).getAttribute("value").trim();
-        System.out.println("Default Check-In value: " + val);
+        String val = bookingWidget.element(BookingWidget.CHECK_IN).getAttribute("value").trim();
+        Log.info(() -> "Default Check-In value: " + val);
         return val;
     }
     public String getDefaultCheckOut() {
-        String val = waitUtils.waitForVisibility(checkOutInput).getAttribute("value").trim();
-        System.out.println("Default Check-Out value: " + val);
+        String val = bookingWidget.element(BookingWidget.CHECK_OUT).getAttribute("value").trim();
+        Log.info(() -> "Default Check-Out value: " + val);
         return val;
     }
 
@@ -172,16 +168,16 @@ public class HomePage {
 //
 //        System.out.println("Entered Check-In: " + checkIn + " | Check-Out: " + checkOut);
 
-        System.out.println("Setting Check-In and Check-Out dates...");
-        clearAndTypeDate(checkInInput, checkIn);
+        Log.info("Setting Check-In and Check-Out dates...");
+        clearAndTypeDate(BookingWidget.CHECK_IN, checkIn);
 
         // Ensure date picker overlay doesn't steal the next typing
-        try { driver.findElement(checkInInput).sendKeys(Keys.ESCAPE); } catch (Exception ignored) {}
+        try { bookingWidget.element(BookingWidget.CHECK_IN).sendKeys(Keys.ESCAPE); } catch (Exception ignored) {}
 
-        clearAndTypeDate(checkOutInput, checkOut);
-        try { driver.findElement(checkOutInput).sendKeys(Keys.ESCAPE); } catch (Exception ignored) {}
+        clearAndTypeDate(BookingWidget.CHECK_OUT, checkOut);
+        try { bookingWidget.element(BookingWidget.CHECK_OUT).sendKeys(Keys.ESCAPE); } catch (Exception ignored) {}
 
-        System.out.println("Dates entered → Check-In: " + checkIn + " | Check-Out: " + checkOut);
+        Log.info(() -> "Dates entered → Check-In: " + checkIn + " | Check-Out: " + checkOut);
     }
 
   /*  // ---------------------------------------------
@@ -211,15 +207,15 @@ public class HomePage {
 
     // Select-all + clear + type for date fields (handles sticky navbar + datepicker overlay)
     private void clearAndTypeDate(By inputLocator, String dateStr) {
-        System.out.println("🖱️ Focusing date field: " + inputLocator);
+        Log.debug(() -> "🖱️ Focusing date field: " + inputLocator);
 
-        WebElement field = bringIntoView(inputLocator);
+        WebElement field = bookingWidget.scrolledTo(inputLocator);
 
         // Try a normal click; if intercepted, use JS click
         try {
-            waitUtils.waitForClickability(inputLocator).click();
+            field.click();
         } catch (ElementClickInterceptedException e) {
-            System.out.println("⚠️ Click intercepted by sticky header. Using JS click...");
+            Log.warn("⚠️ Click intercepted by sticky header. Using JS click...");
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", field);
         }
 
@@ -238,17 +234,26 @@ public class HomePage {
         // Extra: close any open datepicker overlay
         try { field.sendKeys(Keys.ESCAPE); } catch (Exception ignored) {}
 
-        System.out.println("✅ Set date '" + dateStr + "' in: " + inputLocator);
+        Log.debug(() -> "✅ Set date '" + dateStr + "' in: " + inputLocator);
     }
 
 
-    // Center the element in the viewport so the sticky navbar won't cover it
-    private WebElement bringIntoView(By locator) {
-        WebElement el = waitUtils.waitForVisibility(locator);
-        ((JavascriptExecutor) driver)
-                .executeScript("arguments[0].scrollIntoView({block:'center', inline:'nearest'});", el);
-        try { Thread.sleep(250); } catch (InterruptedException ignored) {}
-        return el;
+    /**
+     * Snapshot of every card under "Our Rooms", read with a single executeScript call
+     * instead of ~3 WebDriver round trips per card.
+     */
+    public RoomCatalogue readRoomCatalogue() {
+        List<RoomCard> cards = new ArrayList<>();
+        for (Object o : rooms.snapshot()) {
+            Map<?, ?> c = (Map<?, ?>) o;
+            cards.add(new RoomCard(cards.size(),
+                    String.valueOf(c.get("title")),
+                    RoomCatalogue.parsePrice(String.valueOf(c.get("price"))),
+                    Boolean.TRUE.equals(c.get("visible")),
+                    String.valueOf(c.get("href"))));
+        }
+        Log.info(() -> "🧾 Room catalogue: " + cards);
+        return new RoomCatalogue(cards);
     }
 
     /**
@@ -257,82 +262,56 @@ public class HomePage {
      * @return how many valid room cards were found (for assertion >= 1)
      */
     public int countValidRoomCards() {
-        System.out.println("Looking for available rooms in 'Our Rooms' section...");
-        waitUtils.waitForVisibility(roomsSection);
-
-        List<WebElement> cards = driver.findElements(roomCards);
-        System.out.println("🧾 Found " + cards.size() + " room card(s).");
-
-        int validCount = 0;
-
-        for (int i = 0; i < cards.size(); i++) {
-            WebElement card = cards.get(i);
-            System.out.println("— Checking card #" + (i + 1));
-
-            boolean hasTitle = false, hasPrice = false, hasBook = false;
-            String titleText = "", priceText = "", bookText = "";
-
-            try {
-                WebElement titleEl = card.findElement(roomTitleInCard);
-                hasTitle = titleEl.isDisplayed() && !titleEl.getText().trim().isEmpty();
-                titleText = titleEl.getText().trim();
-            } catch (Exception ignored) {}
-
-            try {
-                WebElement priceEl = card.findElement(roomPriceInCard);
-                hasPrice = priceEl.isDisplayed() && !priceEl.getText().trim().isEmpty();
-                priceText = priceEl.getText().trim();
-            } catch (Exception ignored) {}
-
-            try {
-                WebElement bookEl = card.findElement(bookNowInCard);
-                hasBook = bookEl.isDisplayed();
-                bookText = bookEl.getText().trim();
-            } catch (Exception ignored) {}
-
-            if (hasTitle && hasPrice && hasBook) {
-                validCount++;
-                System.out.println("Valid room → Title: " + titleText + " | Price: " + priceText + " | Button: " + bookText);
+        Log.info("Looking for available rooms in 'Our Rooms' section...");
+        RoomCatalogue catalogue = readRoomCatalogue();
+        for (RoomCard card : catalogue.all()) {
+            if (card.isValid()) {
+                Log.info(() -> "Valid room → Title: " + card.title() + " | Price: " + card.price() + " | Link: " + card.bookHref());
             } else {
-                System.out.println("Incomplete card → title:" + hasTitle + ", price:" + hasPrice + ", book:" + hasBook);
+                Log.info(() -> "Incomplete card #" + (card.index() + 1) + " → " + card);
             }
         }
-
-        System.out.println("Valid room cards found: " + validCount);
+        int validCount = (int) catalogue.validCount();
+        Log.info(() -> "Valid room cards found: " + validCount);
         return validCount;
     }
 
     /**
      * Clicks the first visible "Book now" button and returns the room title from that card (e.g., "Single").
-     * click a specific room type can later be parameterised
      */
-
     public String clickFirstBookNowAndCaptureRoomTitle() {
-        System.out.println("🖱️ Looking for a room card with a 'Book now' button...");
-        waitUtils.waitForVisibility(roomsSection);
-        List<WebElement> cards = driver.findElements(roomCards);
-
-        for (int i = 0; i < cards.size(); i++) {
-            WebElement card = cards.get(i);
-            try {
-                WebElement titleEl = card.findElement(roomTitleInCard);
-                String title = titleEl.getText().trim();      // "Single", "Double", "Suite"
-                WebElement bookBtn = card.findElement(bookNowInCard);
-                if (bookBtn.isDisplayed()) {
-                    ((JavascriptExecutor) driver)
-                            .executeScript("arguments[0].scrollIntoView({block:'center'});", bookBtn);
-                    Thread.sleep(200);
-                    try {
-                        bookBtn.click();
-                    } catch (ElementClickInterceptedException e) {
-                        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", bookBtn);
-                    }
-                    System.out.println("Clicked 'Book now' for room: " + title);
-                    return title;
-                }
-            } catch (Exception ignored) { /* try next card */ }
+        Log.info("🖱️ Looking for a room card with a 'Book now' button...");
+        RoomCard room = readRoomCatalogue().firstValid()
+                .orElseThrow(() -> new RuntimeException("No room card with a visible 'Book now' button was found."));
+        clickBookNow(room);
+        return room.title();
+    }
+
+    /**
+     * Clicks "Book now" on the card for the given room type (e.g., "Double", "Suite").
+     * @return the card that was booked
+     */
+    public RoomCard clickBookNowForRoom(String roomType) {
+        RoomCatalogue catalogue = readRoomCatalogue();
+        RoomCard room = catalogue.byType(roomType)
+                .orElseThrow(() -> new IllegalArgumentException("No '" + roomType + "' room card. Available: " + catalogue.types()));
+        if (!room.isValid()) {
+            throw new IllegalStateException("'" + roomType + "' room card is not bookable: " + room);
+        }
+        clickBookNow(room);
+        return room;
+    }
+
+    private void clickBookNow(RoomCard room) {
+        WebElement bookBtn = rooms.bookNowButton(room.index());
+        waitUtils.scrollIntoViewSettled(bookBtn, "center");
+        PerfMetrics.startInteraction(driver, "booking", ""); // only survives if the app routes without a reload
+        try {
+            bookBtn.click();
+        } catch (ElementClickInterceptedException e) {
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", bookBtn);
         }
-        throw new RuntimeException("No room card with a visible 'Book now' button was found.");
+        Log.info(() -> "Clicked 'Book now' for room: " + room.title());
     }
 
     /*
@@ -345,23 +324,18 @@ public class HomePage {
     } */
 
     public void clickContactNav() {
-        System.out.println("Clicking 'Contact' in navbar...");
-
-        // Locators (keep them as fields if you prefer)
-        By navbar         = By.cssSelector("nav.navbar");
-        By toggler        = By.cssSelector("button.navbar-toggler");
-        By contactLink    = By.xpath("//nav//a[normalize-space()='Contact' or contains(@href,'#contact')]");
+        Log.info("Clicking 'Contact' in navbar...");
 
         // 1) Navbar present
-        waitUtils.waitForVisibility(navbar);
+        navbar.root();
 
         // 2) If menu is collapsed, expand it (mobile/tablet widths)
-        boolean linkVisible = driver.findElements(contactLink).stream()
-                .findFirst().map(WebElement::isDisplayed).orElse(false);
+        boolean linkVisible = waitUtils.findNow(navbar.root(), Navbar.CONTACT_LINK)
+                .map(WebElement::isDisplayed).orElse(false);
         if (!linkVisible) {
-            var togglers = driver.findElements(toggler);
+            var togglers = navbar.elementsNow(Navbar.TOGGLER);
             if (!togglers.isEmpty() && togglers.get(0).isDisplayed()) {
-                System.out.println("☰ Expanding collapsed navbar...");
+                Log.info("☰ Expanding collapsed navbar...");
                 try { togglers.get(0).click(); }
                 catch (ElementClickInterceptedException e) {
                     ((JavascriptExecutor) driver).executeScript("arguments[0].click();", togglers.get(0));
@@ -370,15 +344,14 @@ public class HomePage {
         }
 
         // 3) Now wait for the link to be visible & clickable
-        WebElement link = waitUtils.waitForVisibility(contactLink);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", link);
+        WebElement link = navbar.scrolledTo(Navbar.CONTACT_LINK);
         try {
-            waitUtils.waitForClickability(contactLink).click();
+            link.click();
         } catch (ElementClickInterceptedException e) {
-            System.out.println("Intercepted by sticky header/overlay; using JS click.");
+            Log.warn("Intercepted by sticky header/overlay; using JS click.");
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", link);
         }
-        System.out.println("Navbar 'Contact' clicked.");
+        Log.info("Navbar 'Contact' clicked.");
     }
 
 }
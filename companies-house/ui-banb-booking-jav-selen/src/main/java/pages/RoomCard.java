@@ -0,0 +1,25 @@
+package pages;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable snapshot of one card in the "Our Rooms" grid.
+ * price is null when the card shows no parsable amount; bookHref is "" when there is no Book now link.
+ */
+public record RoomCard(int index, String title, BigDecimal price, boolean visible, String bookHref) {
+
+    /** Same rule as the old per-element checks: visible, titled, priced and bookable. */
+    public boolean isValid() {
+        return visible && !title.isBlank() && price != null && !bookHref.isBlank();
+    }
+
+    /** Room id from the Book now link (e.g. ".../reservation/2?checkin=..." -> "2"), or "" if absent. */
+    public String roomId() {
+        int at = bookHref.indexOf("/reservation/");
+        if (at < 0) return "";
+        String rest = bookHref.substring(at + "/reservation/".length());
+        int end = 0;
+        while (end < rest.length() && Character.isDigit(rest.charAt(end))) end++;
+        return rest.substring(0, end);
+    }
+}
@@ -0,0 +1,68 @@
+package pages;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * All room cards read in a single browser round trip, indexed by room type
+ * so a step can pick "Double" or "Suite" without walking the grid again.
+ */
+public final class RoomCatalogue {
+
+    private static final Pattern AMOUNT = Pattern.compile("\\d+(?:[.,]\\d{1,2})?");
+
+    private final List<RoomCard> rooms;
+    private final Map<String, RoomCard> byType;
+
+    RoomCatalogue(List<RoomCard> rooms) {
+        this.rooms = List.copyOf(rooms);
+        Map<String, RoomCard> index = new LinkedHashMap<>();
+        for (RoomCard r : this.rooms) index.putIfAbsent(typeKey(r.title()), r); // first card wins
+        this.byType = Collections.unmodifiableMap(index);
+    }
+
+    /** For room lists that were not read from the page (e.g. the /api/room response). */
+    public static RoomCatalogue of(List<RoomCard> rooms) {
+        return new RoomCatalogue(rooms);
+    }
+
+    public List<RoomCard> all() {
+        return rooms;
+    }
+
+    public long validCount() {
+        return rooms.stream().filter(RoomCard::isValid).count();
+    }
+
+    public Optional<RoomCard> firstValid() {
+        return rooms.stream().filter(RoomCard::isValid).findFirst();
+    }
+
+    /** O(1) lookup; "Double", "double" and "Double Room" all resolve to the same card. */
+    public Optional<RoomCard> byType(String roomType) {
+        return Optional.ofNullable(byType.get(typeKey(roomType)));
+    }
+
+    public Set<String> types() {
+        return byType.keySet();
+    }
+
+    static BigDecimal parsePrice(String text) {
+        if (text == null) return null;
+        Matcher m = AMOUNT.matcher(text.replace(",", ""));
+        return m.find() ? new BigDecimal(m.group()) : null;
+    }
+
+    private static String typeKey(String title) {
+        String t = title == null ? "" : title.trim().toLowerCase(Locale.ROOT);
+        return t.endsWith(" room") ? t.substring(0, t.length() - " room".length()).trim() : t;
+    }
+}
@@ -0,0 +1,42 @@
+package pages.components;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import utils.WaitUtils;
+
+/**
+ * Reservation page right-hand card: "Book This Room", Reserve Now, the guest form,
+ * validation messages and the "Booking Confirmed" panel that replaces it.
+ */
+public class BookingCard extends Component {
+
+    public static final By ROOT = By.cssSelector(".booking-card");
+
+    public static final By HEADER      = By.xpath(".//*[self::h2 or self::h3][normalize-space()='Book This Room']");
+    public static final By RESERVE_NOW = By.xpath(".//button[normalize-space()='Reserve Now']");
+    public static final By CANCEL      = By.xpath(".//button[normalize-space()='Cancel']");
+
+    // Guest form
+    public static final By FIRST_NAME = By.cssSelector("input[name='firstname']");
+    public static final By LAST_NAME  = By.cssSelector("input[name='lastname']");
+    public static final By EMAIL      = By.cssSelector("input[name='email']");
+    public static final By PHONE      = By.cssSelector("input[name='phone']");
+
+    // Covers most bootstrap-ish validation patterns: inline small/div, or alert summary list.
+    public static final By VALIDATION_MESSAGES = By.cssSelector(
+            "form .invalid-feedback, " +        // inline under inputs
+                    "form .text-danger, " +             // common inline class
+                    "form .alert-danger, " +            // summary block
+                    "form .alert-danger li, " +         // summary list items
+                    "form small.text-danger"            // small red text
+    );
+
+    // Confirmation panel
+    public static final By CONFIRMED_HEADER = By.xpath(".//*[self::h2 or self::h3][contains(normalize-space(),'Booking Confirmed')]");
+    public static final By CONFIRMED_DATES  = By.xpath(".//p[contains(@class,'text-center')]//strong"); // [0]=start [1]=end
+    public static final By RETURN_HOME      = By.xpath(".//a[normalize-space()='Return home' or normalize-space()='Return Home']");
+
+    public BookingCard(WebDriver driver, WaitUtils wait) {
+        super(driver, wait, ROOT);
+    }
+}
@@ -0,0 +1,20 @@
+package pages.components;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import utils.WaitUtils;
+
+/** Home page "Check Availability & Book Your Stay" card: date inputs and the Check Availability button. */
+public class BookingWidget extends Component {
+
+    public static final By ROOT = By.cssSelector("section#booking");
+
+    public static final By TITLE              = By.cssSelector("h3.card-title");
+    public static final By CHECK_IN           = By.xpath(".//label[@for='checkin']/following-sibling::div//input");
+    public static final By CHECK_OUT          = By.xpath(".//label[@for='checkout']/following-sibling::div//input");
+    public static final By CHECK_AVAILABILITY = By.xpath(".//button[contains(text(),'Check Availability')]");
+
+    public BookingWidget(WebDriver driver, WaitUtils wait) {
+        super(driver, wait, ROOT);
+    }
+}
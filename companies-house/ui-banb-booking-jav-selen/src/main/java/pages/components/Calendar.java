@@ -0,0 +1,29 @@
+package pages.components;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import utils.WaitUtils;
+
+import java.util.List;
+
+/** React Big Calendar month view on the reservation page. */
+public class Calendar extends Component {
+
+    public static final By ROOT = By.cssSelector(".rbc-calendar");
+
+    public static final By MONTH_VIEW  = By.cssSelector(".rbc-month-view");
+    public static final By DAY_BUTTONS = By.cssSelector(".rbc-month-view button[type='button']");
+
+    public Calendar(WebDriver driver, WaitUtils wait) {
+        super(driver, wait, ROOT);
+    }
+
+    /** Month-cell buttons labelled with the day, plain or zero-padded ("9" or "09"). */
+    public List<WebElement> dayButtonsNow(int dayNumber) {
+        String d1 = String.valueOf(dayNumber);
+        String d2 = String.format("%02d", dayNumber);
+        return elementsNow(By.xpath(".//div[contains(@class,'rbc-month-view')]//button[@type='button' and " +
+                "(normalize-space()='" + d1 + "' or normalize-space()='" + d2 + "')]"));
+    }
+}
@@ -0,0 +1,100 @@
+package pages.components;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import utils.WaitUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import utils.Log;
+
+/**
+ * A section of a page (Our Rooms, Contact, the booking card, the calendar...) that searches from its
+ * own root element instead of the whole document.
+ * The root and every element resolved under it are cached. A cached handle is re-resolved only when
+ * it has gone stale (React replaced that node), so repeat lookups cost one staleness probe instead of
+ * a wait plus a full-document search.
+ *
+ * Locators used with a component must be relative to its root: CSS, or XPath starting with ".//".
+ */
+public abstract class Component {
+
+    protected final WebDriver driver;
+    protected final WaitUtils wait;
+    private final By rootLocator;
+
+    private WebElement root;
+    private final Map<By, WebElement> cache = new HashMap<>();
+
+    protected Component(WebDriver driver, WaitUtils wait, By rootLocator) {
+        this.driver = driver;
+        this.wait = wait;
+        this.rootLocator = rootLocator;
+    }
+
+    /** The component's root element; looked up again only if the cached one is stale. */
+    public WebElement root() {
+        if (root == null || isStale(root)) {
+            root = wait.waitForPresence(driver, rootLocator);
+            cache.clear(); // everything found under the old root went with it
+        }
+        return root;
+    }
+
+    /** Visible element under the root; cached and re-resolved only when stale. */
+    public WebElement element(By locator) {
+        WebElement cached = cache.get(locator);
+        if (cached != null && !isStale(cached)) return cached;
+
+        WebElement found = wait.waitForVisibility(root(), locator);
+        cache.put(locator, found);
+        return found;
+    }
+
+    /** Current matches under the root; never waits and is not cached (lists change with the DOM). */
+    public List<WebElement> elementsNow(By locator) {
+        return wait.findAllNow(root(), locator);
+    }
+
+    /** Element scrolled to the viewport centre and settled clear of the sticky navbar. */
+    public WebElement scrolledTo(By locator) {
+        return wait.scrollIntoViewSettled(element(locator), "center");
+    }
+
+    /** Scroll, native click, JS click if the sticky header intercepts it. */
+    public void click(By locator) {
+        WebElement el = scrolledTo(locator);
+        try {
+            el.click();
+        } catch (ElementClickInterceptedException e) {
+            Log.warn(() -> "Click intercepted; using JS click for: " + locator);
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
+        }
+    }
+
+    /** Scrolls the whole component into view ("start" or "center"). */
+    public WebElement scrollIntoView(String block) {
+        return wait.scrollIntoViewSettled(root(), block);
+    }
+
+    /** Drops cached handles, e.g. after an action that is known to re-render the component. */
+    public void forget() {
+        root = null;
+        cache.clear();
+    }
+
+    // one cheap round trip; any command on a detached node throws StaleElementReferenceException
+    private static boolean isStale(WebElement element) {
+        try {
+            element.isEnabled();
+            return false;
+        } catch (StaleElementReferenceException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package pages.components;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import utils.WaitUtils;
+
+/** Home page "Send Us a Message" section: the form, then the confirmation that replaces it. */
+public class ContactSection extends Component {
+
+    public static final By ROOT = By.cssSelector("section#contact");
+
+    public static final By HEADING = By.xpath(".//h3[contains(normalize-space(),'Send Us a Message')]");
+
+    // Inputs (support both testid and id to be resilient)
+    public static final By NAME    = By.cssSelector("input[data-testid='ContactName'],  #name");
+    public static final By EMAIL   = By.cssSelector("input[data-testid='ContactEmail'], #email");
+    public static final By PHONE   = By.cssSelector("input[data-testid='ContactPhone'], #phone");
+    public static final By SUBJECT = By.cssSelector("input[data-testid='ContactSubject'], #subject");
+    public static final By MESSAGE = By.cssSelector("textarea[data-testid='ContactDescription'], textarea#description");
+
+    public static final By SUBMIT = By.xpath(".//button[normalize-space()='Submit']");
+
+    // Confirmation (after submit)
+    public static final By CONFIRM_HEADING = By.xpath(".//h3[starts-with(normalize-space(),'Thanks for getting in touch')]");
+    // The subject appears in a bold-style paragraph just under the "we'll get back to you" line
+    public static final By CONFIRM_SUBJECT = By.xpath(".//h3[starts-with(normalize-space(),'Thanks for getting in touch')]/following::p[contains(translate(@style,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'font-weight')][1]");
+
+    public ContactSection(WebDriver driver, WaitUtils wait) {
+        super(driver, wait, ROOT);
+    }
+}
@@ -0,0 +1,18 @@
+package pages.components;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import utils.WaitUtils;
+
+/** Sticky top navbar (present on every page). */
+public class Navbar extends Component {
+
+    public static final By ROOT = By.cssSelector("nav.navbar");
+
+    public static final By TOGGLER      = By.cssSelector("button.navbar-toggler");
+    public static final By CONTACT_LINK = By.xpath(".//a[normalize-space()='Contact' or contains(@href,'#contact')]");
+
+    public Navbar(WebDriver driver, WaitUtils wait) {
+        super(driver, wait, ROOT);
+    }
+}
@@ -0,0 +1,52 @@
+package pages.components;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import utils.WaitUtils;
+
+import java.util.List;
+
+/** Home page "Our Rooms" grid. Cards are read in one script call scoped to the section root. */
+public class RoomsSection extends Component {
+
+    public static final String ROOT_CSS = "section#rooms";
+    public static final By ROOT = By.cssSelector(ROOT_CSS);
+
+    public static final By HEADER = By.cssSelector("h2.display-5");
+
+    public static final String CARD_CSS     = ".room-card";       // each card
+    public static final String TITLE_CSS    = "h5.card-title";    // e.g., Single / Double / Suite
+    public static final String PRICE_CSS    = ".fw-bold.fs-5";    // e.g., £100
+    public static final String BOOK_NOW_CSS = "a.btn.btn-primary"; // "Book now" link
+
+    // Reads every room card in one round trip: [{title, price, href, visible}, ...]
+    private static final String SNAPSHOT_JS =
+            "var root = arguments[0], titleCss = arguments[2], priceCss = arguments[3], bookCss = arguments[4];" +
+            "function shown(e) { return !!e && getComputedStyle(e).visibility !== 'hidden'" +
+            "  && !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length); }" +
+            "return Array.prototype.map.call(root.querySelectorAll(arguments[1]), function (c) {" +
+            "  var t = c.querySelector(titleCss), p = c.querySelector(priceCss), b = c.querySelector(bookCss);" +
+            "  return { title: t ? t.textContent.trim() : '', price: p ? p.textContent.trim() : ''," +
+            "           href: b ? b.href : '', visible: shown(t) && shown(p) && shown(b) };" +
+            "});";
+
+    public RoomsSection(WebDriver driver, WaitUtils wait) {
+        super(driver, wait, ROOT);
+    }
+
+    /** Raw card data, one map per card in DOM order. */
+    public List<?> snapshot() {
+        Object raw = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_JS,
+                root(), CARD_CSS, TITLE_CSS, PRICE_CSS, BOOK_NOW_CSS);
+        return raw instanceof List<?> cards ? cards : List.of();
+    }
+
+    /** "Book now" link of the card at the given DOM index. */
+    public WebElement bookNowButton(int cardIndex) {
+        return (WebElement) ((JavascriptExecutor) driver).executeScript(
+                "return arguments[0].querySelectorAll(arguments[1])[arguments[2]].querySelector(arguments[3]);",
+                root(), CARD_CSS, cardIndex, BOOK_NOW_CSS);
+    }
+}
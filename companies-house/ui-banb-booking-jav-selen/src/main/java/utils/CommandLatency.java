@@ -0,0 +1,165 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Run-wide latency samples for WebDriver commands and WaitUtils waits, grouped by command type,
+ * by locator and by the Cucumber step that issued them.
+ * Samples come from the driver listener (test side) and from WaitUtils; the current step is
+ * bound to the worker thread by the Cucumber plugin, so parallel scenarios don't mix.
+ * A wait polls with findElement, so its samples would count those commands twice: per step, waits are kept
+ * apart from the commands (waitsByStep). Nothing is recorded with -DcommandTiming=false (or COMMAND_TIMING).
+ */
+public final class CommandLatency {
+
+    public static final String NO_STEP = "(outside steps)";
+
+    // histogram bucket upper bounds in ms, reported as le1, le2 ... le5000 plus an open-ended gt5000
+    private static final long[] BUCKETS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    private static final ThreadLocal<String> CURRENT_STEP = new ThreadLocal<>();
+
+    private static final Map<String, Samples> BY_COMMAND = new ConcurrentHashMap<>();
+    private static final Map<String, Samples> BY_LOCATOR = new ConcurrentHashMap<>();
+    private static final Map<String, Samples> BY_STEP = new ConcurrentHashMap<>();
+    private static final Map<String, Samples> WAITS_BY_STEP = new ConcurrentHashMap<>();
+
+    private CommandLatency() {}
+
+    public static void enterStep(String step) {
+        CURRENT_STEP.set(step);
+    }
+
+    public static void exitStep() {
+        CURRENT_STEP.remove();
+    }
+
+    public static String currentStep() {
+        String step = CURRENT_STEP.get();
+        return step == null ? NO_STEP : step;
+    }
+
+    /** Same switch as the test-side ConfigLoader.commandTiming() that attaches the driver listener. */
+    public static boolean enabled() {
+        return Boolean.parseBoolean(Settings.get("commandTiming", "COMMAND_TIMING", "true"));
+    }
+
+    /** Records one command; outcome is "ok" or the exception's simple class name. */
+    public static void record(String command, String locator, long nanos, String outcome) {
+        record(command, locator, nanos, outcome, BY_STEP);
+    }
+
+    /** Times a block (e.g. an explicit wait) and records it as a wait, rethrowing whatever it throws. */
+    public static <T> T time(String command, Object locator, Supplier<T> block) {
+        if (!enabled()) return block.get();
+        long t0 = System.nanoTime();
+        String outcome = "ok";
+        try {
+            return block.get();
+        } catch (RuntimeException | Error e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            record(command, locator == null ? null : String.valueOf(locator), System.nanoTime() - t0, outcome, WAITS_BY_STEP);
+        }
+    }
+
+    private static void record(String command, String locator, long nanos, String outcome, Map<String, Samples> byStep) {
+        if (!enabled()) return;
+        BY_COMMAND.computeIfAbsent(command, k -> new Samples()).add(nanos, outcome);
+        if (locator != null && !locator.isBlank()) BY_LOCATOR.computeIfAbsent(locator, k -> new Samples()).add(nanos, outcome);
+        byStep.computeIfAbsent(currentStep(), k -> new Samples()).add(nanos, outcome);
+    }
+
+    public static void reset() {
+        BY_COMMAND.clear();
+        BY_LOCATOR.clear();
+        BY_STEP.clear();
+        WAITS_BY_STEP.clear();
+    }
+
+    public static boolean isEmpty() {
+        return BY_COMMAND.isEmpty();
+    }
+
+    /**
+     * JSON-ready view: byCommand / byLocator / byStep (WebDriver commands) / waitsByStep, each key mapped to count, errors,
+     * outcomes, mean/p50/p95/p99/max in ms and a bucketed histogram.
+     */
+    public static Map<String, Object> report() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("unit", "ms");
+        out.put("byCommand", summarise(BY_COMMAND));
+        out.put("byLocator", summarise(BY_LOCATOR));
+        out.put("byStep", summarise(BY_STEP));
+        out.put("waitsByStep", summarise(WAITS_BY_STEP));
+        return out;
+    }
+
+    private static Map<String, Object> summarise(Map<String, Samples> groups) {
+        Map<String, Object> out = new TreeMap<>();
+        groups.forEach((key, samples) -> out.put(key, samples.summary()));
+        return out;
+    }
+
+    private static double ms(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0; // 2 decimals
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[64];
+        private int size;
+        private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+        synchronized void add(long value, String outcome) {
+            if (size == nanos.length) nanos = Arrays.copyOf(nanos, size * 2);
+            nanos[size++] = value;
+            outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+        }
+
+        Map<String, Object> summary() {
+            long[] sorted;
+            synchronized (this) {
+                sorted = Arrays.copyOf(nanos, size);
+            }
+            Arrays.sort(sorted);
+
+            long total = 0;
+            for (long v : sorted) total += v;
+
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("count", sorted.length);
+            m.put("errors", sorted.length - outcomes.getOrDefault("ok", new LongAdder()).sum());
+            m.put("meanMs", sorted.length == 0 ? 0 : ms(total / sorted.length));
+            m.put("p50Ms", ms(Percentiles.nearestRank(sorted, 50)));
+            m.put("p95Ms", ms(Percentiles.nearestRank(sorted, 95)));
+            m.put("p99Ms", ms(Percentiles.nearestRank(sorted, 99)));
+            m.put("maxMs", sorted.length == 0 ? 0 : ms(sorted[sorted.length - 1]));
+            m.put("totalMs", ms(total));
+            Map<String, Long> byOutcome = new TreeMap<>();
+            outcomes.forEach((k, v) -> byOutcome.put(k, v.sum()));
+            m.put("outcomes", byOutcome);
+            m.put("histogram", histogram(sorted));
+            return m;
+        }
+
+        private static Map<String, Integer> histogram(long[] sorted) {
+            Map<String, Integer> h = new LinkedHashMap<>();
+            int i = 0;
+            for (long bound : BUCKETS_MS) {
+                int n = 0;
+                while (i < sorted.length && sorted[i] <= bound * 1_000_000L) { n++; i++; }
+                h.put("le" + bound, n);
+            }
+            h.put("gt" + BUCKETS_MS[BUCKETS_MS.length - 1], sorted.length - i);
+            return Collections.unmodifiableMap(h);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Batch form fill: sets every field in one browser call through the native value setter
+ * and fires input/change so React picks the values up, then reads them back.
+ * The per-key typing path in the page objects stays available as the fidelity mode.
+ */
+public final class FormFiller {
+
+    /** How page objects fill forms; chosen per run with -DformFillMode=batch|typing (or FORM_FILL_MODE, or config.properties). */
+    public enum Mode {
+        BATCH, TYPING;
+
+        public static Mode current() {
+            return Mode.valueOf(Settings.get("formFillMode", "FORM_FILL_MODE", "batch").toUpperCase(Locale.ROOT));
+        }
+    }
+
+    // React tracks the last value it saw on the element, so assigning el.value directly is ignored;
+    // going through the prototype's setter makes the following 'input' event register as a change.
+    // Values are read back on the next task, after React has re-rendered.
+    private static final String BATCH_FILL_JS =
+            "var els = arguments[0], vals = arguments[1], done = arguments[arguments.length - 1];" +
+            "els.forEach(function (el, i) {" +
+            "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+            "  el.focus();" +
+            "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, vals[i]);" +
+            "  el.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "  el.dispatchEvent(new Event('change', { bubbles: true }));" +
+            "  el.blur();" +
+            "});" +
+            "setTimeout(function () { done(els.map(function (el) { return el.value; })); }, 0);";
+
+    private FormFiller() {}
+
+    /**
+     * Fills the fields (in map order) with one script call. Fields are looked up under scope
+     * (a section root, or the driver for the whole page).
+     * @return locators whose read-back value did not match, for the caller to retype
+     */
+    public static List<By> fillBatch(WebDriver driver, WaitUtils wait, SearchContext scope, Map<By, String> values) {
+        List<By> locators = new ArrayList<>(values.keySet());
+        List<WebElement> fields = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        wait.waitForVisibility(scope, locators.get(0)); // the form is rendered as a whole
+        for (By locator : locators) {
+            fields.add(scope.findElement(locator));
+            texts.add(values.get(locator));
+        }
+
+        Object readBack = ((JavascriptExecutor) driver).executeAsyncScript(BATCH_FILL_JS, fields, texts);
+
+        List<By> mismatched = new ArrayList<>();
+        List<?> actual = readBack instanceof List<?> l ? l : List.of();
+        for (int i = 0; i < locators.size(); i++) {
+            Object v = i < actual.size() ? actual.get(i) : null;
+            if (!texts.get(i).equals(v)) {
+                By locator = locators.get(i);
+                Log.info(() -> "Batch fill did not stick for " + locator + " (read back: " + v + ")");
+                mismatched.add(locator);
+            }
+        }
+        return mismatched;
+    }
+}
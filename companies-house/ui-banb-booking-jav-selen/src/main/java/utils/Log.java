@@ -0,0 +1,169 @@
+package utils;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Levelled logging for page objects, waits and steps, replacing System.out in hot paths.
+ * Messages are passed as suppliers, so nothing is concatenated when the level is off.
+ * Enabled lines go onto a bounded queue and one background thread writes them to the console,
+ * tagged with the worker thread and the scenario bound to it; the scenario's lines are also kept
+ * so Hooks can attach them to the Cucumber report.
+ *
+ * -DlogLevel=debug|info|warn|error|off (or LOG_LEVEL), default info.
+ * -DlogAsync=false (or LOG_ASYNC) writes on the calling thread instead.
+ * -DlogQueueSize=N (or LOG_QUEUE_SIZE), default 8192. When the queue is full, debug/info lines are
+ * dropped (and counted) rather than stalling the test; warn/error always wait for room.
+ * The same keys in config.properties apply when neither the property nor the variable is set.
+ */
+public final class Log {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final Level LEVEL = Level.valueOf(Settings.get("logLevel", "LOG_LEVEL", "info").toUpperCase(Locale.ROOT));
+    private static final boolean ASYNC = Boolean.parseBoolean(Settings.get("logAsync", "LOG_ASYNC", "true"));
+    private static final int QUEUE_SIZE = Integer.parseInt(Settings.get("logQueueSize", "LOG_QUEUE_SIZE", "8192"));
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final PrintStream OUT = System.out;
+
+    private static final ThreadLocal<String> SCENARIO = new ThreadLocal<>();
+    private static final Map<String, StringBuilder> SCENARIO_LINES = new ConcurrentHashMap<>();
+    private static final LongAdder DROPPED = new LongAdder();
+
+    private static final BlockingQueue<Entry> QUEUE = new ArrayBlockingQueue<>(Math.max(16, QUEUE_SIZE));
+
+    static {
+        if (ASYNC && LEVEL != Level.OFF) {
+            Thread writer = new Thread(Log::drain, "log-writer");
+            writer.setDaemon(true);
+            writer.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "log-flush"));
+        }
+    }
+
+    private Log() {}
+
+    public static boolean isEnabled(Level level) {
+        return level != Level.OFF && level.ordinal() >= LEVEL.ordinal();
+    }
+
+    public static void debug(Supplier<String> message) { log(Level.DEBUG, message); }
+    public static void info(Supplier<String> message)  { log(Level.INFO, message); }
+    public static void warn(Supplier<String> message)  { log(Level.WARN, message); }
+    public static void error(Supplier<String> message) { log(Level.ERROR, message); }
+
+    // constant messages: nothing to build, so no supplier needed
+    public static void debug(String message) { log(Level.DEBUG, () -> message); }
+    public static void info(String message)  { log(Level.INFO, () -> message); }
+    public static void warn(String message)  { log(Level.WARN, () -> message); }
+    public static void error(String message) { log(Level.ERROR, () -> message); }
+
+    public static void log(Level level, Supplier<String> message) {
+        if (!isEnabled(level)) return;
+        Entry e = new Entry(System.currentTimeMillis(), level, Thread.currentThread().getName(),
+                SCENARIO.get(), message.get(), null);
+        if (!ASYNC) {
+            write(e);
+        } else if (level.ordinal() >= Level.WARN.ordinal()) {
+            try {
+                QUEUE.put(e);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        } else if (!QUEUE.offer(e)) {
+            DROPPED.increment();
+        }
+    }
+
+    /** Binds a scenario to the current worker thread; its lines are tagged and kept until endScenario. */
+    public static void startScenario(String name) {
+        String tag = name + " #" + Thread.currentThread().getId();
+        SCENARIO.set(tag);
+        SCENARIO_LINES.put(tag, new StringBuilder());
+    }
+
+    /**
+     * Unbinds the scenario and returns its log once the writer has caught up with it
+     * (empty if no scenario was bound or logging is off).
+     */
+    public static String endScenario() {
+        String tag = SCENARIO.get();
+        SCENARIO.remove();
+        if (tag == null) return "";
+        if (ASYNC && LEVEL != Level.OFF) {
+            CompletableFuture<Void> caughtUp = new CompletableFuture<>();
+            try {
+                QUEUE.put(new Entry(0, Level.OFF, null, null, null, caughtUp));
+                caughtUp.get(2, TimeUnit.SECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            } catch (Exception ignored) {
+                // writer is behind; attach what it has written so far
+            }
+        }
+        StringBuilder lines = SCENARIO_LINES.remove(tag);
+        if (lines == null) return "";
+        synchronized (lines) {
+            return lines.toString();
+        }
+    }
+
+    /** Waits (briefly) for queued lines to reach the console; reports drops once. */
+    public static void flush() {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!QUEUE.isEmpty() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        long dropped = DROPPED.sumThenReset();
+        if (dropped > 0) OUT.println("WARNING: " + dropped + " log lines dropped (queue full, logQueueSize=" + QUEUE_SIZE + ")");
+        OUT.flush();
+    }
+
+    private static void drain() {
+        while (true) {
+            try {
+                Entry e = QUEUE.take();
+                if (e.caughtUp != null) e.caughtUp.complete(null);
+                else write(e);
+            } catch (InterruptedException ie) {
+                return;
+            } catch (RuntimeException ex) {
+                OUT.println("Log writer error: " + ex);
+            }
+        }
+    }
+
+    private static void write(Entry e) {
+        String line = TIME.format(Instant.ofEpochMilli(e.epochMillis)) + " " + String.format("%-5s", e.level)
+                + " [" + e.thread + "]" + (e.scenario == null ? "" : " [" + e.scenario + "]") + " " + e.message;
+        OUT.println(line);
+        if (e.scenario != null) {
+            StringBuilder lines = SCENARIO_LINES.get(e.scenario);
+            if (lines != null) {
+                synchronized (lines) {
+                    lines.append(line).append('\n');
+                }
+            }
+        }
+    }
+
+    private record Entry(long epochMillis, Level level, String thread, String scenario, String message,
+                         CompletableFuture<Void> caughtUp) {}
+}
@@ -0,0 +1,154 @@
+package utils;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+/**
+ * Navigation that returns when the page object says the app is usable, not when every image and font
+ * has loaded. Sessions run with pageLoadStrategy eager (or none), so driver.get() comes back early and
+ * the page object's readiness probe (e.g. section#booking mounted, .rbc-calendar rendered) decides.
+ *
+ * Each navigation records the time to usable; the page's own loadEventEnd is read just before the next
+ * navigation (or at the end of the scenario), when it has normally fired, so the report can show how much
+ * waiting for the full load would have cost.
+ */
+public final class PageReadiness {
+
+    // a mark on the old document: with strategy none, get() may return before the new one replaces it
+    private static final String MARK_JS = "window.__banbLeaving = true;";
+    private static final String REPLACED_JS = "return window.__banbLeaving !== true;";
+    private static final String LOAD_END_JS =
+            "var n = performance.getEntriesByType('navigation')[0];" +
+            "return n && n.loadEventEnd > 0 ? n.loadEventEnd : -1;";
+
+    private static final Map<WebDriver, Sample> PENDING = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<WebDriver, String> STRATEGIES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final List<Sample> SAMPLES = new ArrayList<>();
+
+    private PageReadiness() {}
+
+    /** driver.get(url), then the readiness probe; records time to usable for the page. */
+    public static void navigate(WebDriver driver, String url, String page, Runnable readinessProbe) {
+        settle(driver);
+        boolean none = "none".equals(strategy(driver));
+        if (none) markDocument(driver);
+
+        long t0 = System.nanoTime();
+        driver.get(url);
+        long getNanos = System.nanoTime() - t0;
+        if (none) new WaitUtils(driver).until(d -> (Boolean) ((JavascriptExecutor) d).executeScript(REPLACED_JS));
+        readinessProbe.run();
+        long usableNanos = System.nanoTime() - t0;
+        PerfMetrics.observe(driver); // LCP / long tasks of the new document, for the performance budget steps
+
+        Sample s = new Sample(page, strategy(driver), getNanos, usableNanos);
+        synchronized (SAMPLES) {
+            SAMPLES.add(s);
+        }
+        PENDING.put(driver, s);
+        Log.debug(() -> "Page '" + page + "' usable after " + Percentiles.ms(usableNanos) + " ms (get returned after " + Percentiles.ms(getNanos) + " ms)");
+    }
+
+    /** Reads the full-load time of the last navigation on this session; call before the session moves on. */
+    public static void settle(WebDriver driver) {
+        Sample s = PENDING.remove(driver);
+        if (s == null) return;
+        double loadEnd = loadEventEnd(driver);
+        if (loadEnd > 0) s.fullLoadMs = loadEnd; // otherwise the sample keeps only its time to usable
+    }
+
+    /**
+     * loadEventEnd of the current document in ms from navigation start; -1 while the load event hasn't fired,
+     * or when the session is gone.
+     */
+    public static double loadEventEnd(WebDriver driver) {
+        try {
+            Object loadEnd = ((JavascriptExecutor) driver).executeScript(LOAD_END_JS);
+            return loadEnd instanceof Number n && n.doubleValue() > 0 ? n.doubleValue() : -1;
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /** Per page: navigations, time to usable, full load and the difference, in ms. */
+    public static Map<String, Object> report() {
+        Map<String, List<Sample>> byPage = new TreeMap<>();
+        synchronized (SAMPLES) {
+            if (SAMPLES.isEmpty()) return Map.of();
+            for (Sample s : SAMPLES) byPage.computeIfAbsent(s.page, k -> new ArrayList<>()).add(s);
+        }
+
+        Map<String, Object> pages = new LinkedHashMap<>();
+        double savedTotal = 0;
+        for (Map.Entry<String, List<Sample>> e : byPage.entrySet()) {
+            List<Sample> samples = e.getValue();
+            long[] usable = samples.stream().mapToLong(s -> s.usableNanos).sorted().toArray();
+            List<Sample> settled = samples.stream().filter(s -> s.fullLoadMs > 0).toList();
+            double saved = settled.stream().mapToDouble(s -> s.fullLoadMs - s.usableNanos / 1_000_000.0).sum();
+            savedTotal += saved;
+
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("navigations", samples.size());
+            m.put("strategy", samples.get(samples.size() - 1).strategy);
+            m.put("getMeanMs", Percentiles.round1(samples.stream().mapToLong(s -> s.getNanos).average().orElse(0) / 1_000_000.0));
+            m.put("usableMeanMs", Percentiles.round1(samples.stream().mapToLong(s -> s.usableNanos).average().orElse(0) / 1_000_000.0));
+            m.put("usableP95Ms", Percentiles.ms(Percentiles.nearestRank(usable, 95)));
+            m.put("fullLoadSamples", settled.size());
+            m.put("fullLoadMeanMs", Percentiles.round1(settled.stream().mapToDouble(s -> s.fullLoadMs).average().orElse(0)));
+            m.put("savedMs", Percentiles.round1(saved));
+            pages.put(e.getKey(), m);
+        }
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("unit", "ms");
+        out.put("savedTotalMs", Percentiles.round1(savedTotal));
+        out.put("pages", pages);
+        return out;
+    }
+
+    public static void reset() {
+        synchronized (SAMPLES) {
+            SAMPLES.clear();
+        }
+        PENDING.clear();
+    }
+
+    private static String strategy(WebDriver driver) {
+        return STRATEGIES.computeIfAbsent(driver, d -> {
+            Object cap = d instanceof HasCapabilities hc ? hc.getCapabilities().getCapability("pageLoadStrategy") : null;
+            return cap == null ? "normal" : String.valueOf(cap);
+        });
+    }
+
+    private static void markDocument(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(MARK_JS);
+        } catch (RuntimeException ignored) {
+            // nothing loaded yet (fresh session); there is no old document to mistake for the new one
+        }
+    }
+
+    private static final class Sample {
+        final String page;
+        final String strategy;
+        final long getNanos;
+        final long usableNanos;
+        volatile double fullLoadMs = -1; // set by settle()
+
+        Sample(String page, String strategy, long getNanos, long usableNanos) {
+            this.page = page;
+            this.strategy = strategy;
+            this.getNanos = getNanos;
+            this.usableNanos = usableNanos;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Text search that runs in the browser and returns only where the text was found,
+ * so checks like "does the page mention Single?" never pull the page source to the client.
+ */
+public final class PageText {
+
+    /** One hit: the element holding the text, a short CSS-ish path to it, and some context. */
+    public record TextMatch(String tag, String path, int offset, String snippet) {}
+
+    // Case-insensitive walk over the text nodes of every element matching the root selector.
+    // Roots nested in an earlier root are skipped so a hit is reported once.
+    private static final String FIND_JS =
+            "var roots = Array.prototype.slice.call(document.querySelectorAll(arguments[0]));" +
+            "var needle = arguments[1].toLowerCase(), limit = arguments[2], out = [];" +
+            "function path(e, root) {" +
+            "  var parts = [];" +
+            "  for (; e && e !== root.parentElement; e = e.parentElement) {" +
+            "    parts.unshift(e.tagName.toLowerCase() + (e.id ? '#' + e.id : '')" +
+            "      + (e.classList.length ? '.' + Array.prototype.join.call(e.classList, '.') : ''));" +
+            "  }" +
+            "  return parts.join(' > ');" +
+            "}" +
+            "roots.forEach(function (root, i) {" +
+            "  if (roots.slice(0, i).some(function (r) { return r.contains(root); })) return;" +
+            "  var n, w = document.createTreeWalker(root, NodeFilter.SHOW_TEXT);" +
+            "  while ((n = w.nextNode()) && out.length < limit) {" +
+            "    var v = n.nodeValue, at = v.toLowerCase().indexOf(needle);" +
+            "    if (at < 0 || !n.parentElement || n.parentElement.closest('script, style, noscript')) continue;" +
+            "    out.push({ tag: n.parentElement.tagName.toLowerCase(), path: path(n.parentElement, root), offset: at," +
+            "               snippet: v.substring(Math.max(0, at - 20), at + needle.length + 20).trim() });" +
+            "  }" +
+            "});" +
+            "return out;";
+
+    private static final int MAX_MATCHES = 20;
+
+    private PageText() {}
+
+    /** Finds the text (case-insensitive) under every element matching rootCss; empty if nothing matched. */
+    public static List<TextMatch> find(WebDriver driver, String rootCss, String text) {
+        Object raw = ((JavascriptExecutor) driver).executeScript(FIND_JS, rootCss, text, MAX_MATCHES);
+        List<TextMatch> matches = new ArrayList<>();
+        if (raw instanceof List<?> list) {
+            for (Object o : list) {
+                Map<?, ?> m = (Map<?, ?>) o;
+                matches.add(new TextMatch(String.valueOf(m.get("tag")), String.valueOf(m.get("path")),
+                        ((Number) m.get("offset")).intValue(), String.valueOf(m.get("snippet"))));
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,27 @@
+package utils;
+
+/**
+ * Percentiles over already-sorted samples (nearest-rank, no interpolation), and the millisecond rounding
+ * shared by the timing reports.
+ */
+public final class Percentiles {
+
+    private Percentiles() {}
+
+    /** p in (0, 100]; returns 0 for an empty array. */
+    public static long nearestRank(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length, Math.max(1, rank)) - 1];
+    }
+
+    /** Nanoseconds as milliseconds with 1 decimal, the unit of the timing reports. */
+    public static double ms(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+
+    /** Milliseconds (or any other value) rounded to 1 decimal. */
+    public static double round1(double ms) {
+        return Math.round(ms * 10) / 10.0;
+    }
+}
@@ -0,0 +1,155 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Front-end metrics read from the browser at page-object transitions: Navigation Timing (ttfb, domContentLoaded,
+ * load), paint (fcp), largest contentful paint (lcp) and long tasks (count and blocking time, the part of each task
+ * over 50 ms), all in ms from navigation start.
+ *
+ * A page becoming usable (PageReadiness, BookingPage.isLoaded) starts the LCP and long-task observers on its
+ * document; buffered entries from before that are picked up too where the browser keeps them (Chromium).
+ * A click that re-renders part of the page (Check Availability, Book now without a reload) is an interaction:
+ * its render time runs from the click to the last DOM change under the section it updates.
+ *
+ * Off unless the running scenario asked for it (PerfSteps enables it for @perf scenarios on their worker thread),
+ * so other scenarios and the benchmarks pay no extra browser round trips. -DperfMetrics=true (or PERF_METRICS,
+ * or config.properties) measures everywhere.
+ */
+public final class PerfMetrics {
+
+    // arguments: action ("observe" | "mark" | "read"), name, css of the section an interaction re-renders
+    private static final String PERF_JS =
+            "var action = arguments[0], name = arguments[1];" +
+            "var p = window.__banbPerf;" +
+            "if (!p) {" +
+            "  p = window.__banbPerf = { lcp: 0, tasks: [], marks: {} };" +
+            "  var on = function (type, fn) { try {" +
+            "    var o = new PerformanceObserver(function (l) { l.getEntries().forEach(fn); });" +
+            "    o.observe({ type: type, buffered: true }); o.takeRecords().forEach(fn);" +
+            "  } catch (e) {} };" +
+            "  on('largest-contentful-paint', function (e) { p.lcp = Math.max(p.lcp, e.renderTime || e.loadTime || e.startTime); });" +
+            "  on('longtask', function (e) { p.tasks.push([e.startTime, e.duration]); });" +
+            "}" +
+            "if (action === 'mark') {" +
+            "  var mark = p.marks[name] = { start: performance.now(), end: 0 };" +
+            "  var root = (arguments[2] && document.querySelector(arguments[2])) || document.body;" +
+            "  if (p.mo) p.mo.disconnect();" +
+            "  p.mo = new MutationObserver(function () { mark.end = performance.now(); });" +
+            "  p.mo.observe(root, { childList: true, subtree: true, characterData: true });" +
+            "  return null;" +
+            "}" +
+            "if (action !== 'read') return null;" +
+            "var n = performance.getEntriesByType('navigation')[0];" +
+            "var fcp = performance.getEntriesByName('first-contentful-paint')[0];" +
+            "var m = p.marks[name], now = performance.now();" +
+            "var load = n && n.loadEventEnd > 0 ? n.loadEventEnd : 0;" +
+            "var from = m ? m.start : 0, to = m ? (m.end || now) : (load || now);" +
+            "var count = 0, blocking = 0;" +
+            "p.tasks.forEach(function (t) { if (t[0] >= from && t[0] < to) { count++; blocking += Math.max(0, t[1] - 50); } });" +
+            "var r = { now: now, longTasks: count, blockingMs: blocking };" +
+            "if (m) { r.interaction = true; r.start = m.start; r.end = m.end; return r; }" +
+            "if (n) { r.ttfb = n.responseStart; r.domContentLoaded = n.domContentLoadedEventEnd; r.load = load; }" +
+            "if (fcp) r.fcp = fcp.startTime;" +
+            "if (p.lcp > 0) r.lcp = p.lcp;" +
+            "return r;";
+
+    private static final long QUIET_MS = 150; // no DOM change for this long = the re-render is over
+
+    private static final ThreadLocal<Boolean> THIS_SCENARIO = ThreadLocal.withInitial(() -> false);
+
+    private PerfMetrics() {}
+
+    public static boolean enabled() {
+        return THIS_SCENARIO.get() || Boolean.parseBoolean(Settings.get("perfMetrics", "PERF_METRICS", "false"));
+    }
+
+    /** Measure on this worker thread until stop(), i.e. for the scenario running on it. */
+    public static void start() {
+        THIS_SCENARIO.set(true);
+    }
+
+    public static void stop() {
+        THIS_SCENARIO.remove();
+    }
+
+    /** The page is usable: start observing LCP and long tasks on its document. */
+    public static void observe(WebDriver driver) {
+        run(driver, "observe", "", "");
+    }
+
+    /** Just before a click that re-renders the section under rootCss: start timing interaction "name". */
+    public static void startInteraction(WebDriver driver, String name, String rootCss) {
+        run(driver, "mark", name, rootCss);
+    }
+
+    /**
+     * Metrics for "name" on the current document, once they are final: for an interaction started on this
+     * document, render (click to last DOM change) after the section has been quiet for a moment; otherwise the
+     * page's own load metrics once its load event has fired. Empty when disabled or nothing could be read.
+     */
+    public static Map<String, Double> read(WebDriver driver, String name, Duration timeout) {
+        Map<String, Double> out = new LinkedHashMap<>();
+        if (!enabled()) return out;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Map<?, ?> r;
+        while (true) {
+            r = snapshot(driver, name);
+            if (r == null) return out;
+            boolean done = Boolean.TRUE.equals(r.get("interaction"))
+                    ? num(r.get("end")) > 0 && num(r.get("now")) - num(r.get("end")) >= QUIET_MS
+                    : num(r.get("load")) > 0;
+            if (done || System.nanoTime() > deadline || !sleep()) break;
+        }
+        if (Boolean.TRUE.equals(r.get("interaction"))) {
+            double end = num(r.get("end"));
+            if (end > 0) out.put("render", Percentiles.round1(end - num(r.get("start"))));
+        } else {
+            for (String k : new String[] {"ttfb", "fcp", "lcp", "domContentLoaded", "load"}) {
+                if (num(r.get(k)) > 0) out.put(k, Percentiles.round1(num(r.get(k))));
+            }
+        }
+        out.put("longTasks", num(r.get("longTasks")));
+        out.put("blockingMs", Percentiles.round1(num(r.get("blockingMs"))));
+        return out;
+    }
+
+    // ---------- helpers ----------
+
+    private static void run(WebDriver driver, String action, String name, String rootCss) {
+        if (!enabled()) return;
+        try {
+            ((JavascriptExecutor) driver).executeScript(PERF_JS, action, name, rootCss);
+        } catch (RuntimeException e) {
+            Log.debug(() -> "Perf metrics: " + action + " failed (" + e.getClass().getSimpleName() + ")");
+        }
+    }
+
+    private static Map<?, ?> snapshot(WebDriver driver, String name) {
+        try {
+            return (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(PERF_JS, "read", name, "");
+        } catch (RuntimeException e) {
+            Log.debug(() -> "Perf metrics: read failed (" + e.getClass().getSimpleName() + ")");
+            return null;
+        }
+    }
+
+    private static double num(Object o) {
+        return o instanceof Number n ? n.doubleValue() : 0;
+    }
+
+    private static boolean sleep() {
+        try {
+            Thread.sleep(50);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package utils;
+
+/**
+ * Per-thread tally of settled scrolls, so each scenario can report how much
+ * dead time the scroll-settle detection saved compared to fixed pauses.
+ */
+public final class ScrollStats {
+
+    // The page objects used to sleep 150-500 ms after every scroll; 200 ms was the most common pause.
+    public static final long FIXED_PAUSE_MS = 200;
+
+    private static final ThreadLocal<long[]> COUNTERS = ThreadLocal.withInitial(() -> new long[2]); // [scrolls, settleMs]
+
+    private ScrollStats() {}
+
+    static void record(long settleMs) {
+        long[] c = COUNTERS.get();
+        c[0]++;
+        c[1] += settleMs;
+    }
+
+    public static void reset() {
+        COUNTERS.remove();
+    }
+
+    /** One-line summary for the current thread's scenario; also resets the counters. */
+    public static String summaryAndReset() {
+        long[] c = COUNTERS.get();
+        long scrolls = c[0], settleMs = c[1];
+        long fixedMs = scrolls * FIXED_PAUSE_MS;
+        reset();
+        return "Scrolls settled: " + scrolls + " in " + settleMs + " ms (fixed " + FIXED_PAUSE_MS +
+                " ms pauses would take " + fixedMs + " ms, saved ~" + (fixedMs - settleMs) + " ms)";
+    }
+}
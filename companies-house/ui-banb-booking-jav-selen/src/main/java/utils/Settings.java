@@ -0,0 +1,29 @@
+package utils;
+
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Settings read by main code (Log, FormFiller, ...), resolved in the same order as the test-side ConfigLoader:
+ * -Dproperty, then the environment variable, then config.properties on the classpath, then the default.
+ * ConfigLoader itself lives in the test sources, so main code cannot call it.
+ */
+final class Settings {
+
+    private static final Properties PROPS = new Properties();
+
+    static {
+        try (InputStream in = Settings.class.getClassLoader().getResourceAsStream("config.properties")) {
+            if (in != null) PROPS.load(in);
+        } catch (Exception ignored) {}
+    }
+
+    private Settings() {}
+
+    static String get(String property, String env, String def) {
+        for (String v : new String[] {System.getProperty(property), System.getenv(env), PROPS.getProperty(property)}) {
+            if (v != null && !v.isBlank()) return v.trim();
+        }
+        return def;
+    }
+}
@@ -1,17 +1,56 @@
 package utils;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Function;
 
 public class WaitUtils {
 
     WebDriver driver;
     WebDriverWait wait;
 
+    // implicit wait per session, read once; > 0 means every WebDriverWait poll also blocks on it
+    private static final Map<WebDriver, Duration> IMPLICIT_WAITS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<WebDriver, Boolean> DOUBLE_WAIT_REPORTED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Scrolls, then polls the element's bounding rect every 16 ms until it stops moving.
+    // If the sticky navbar overlaps the settled element, nudges the page down once and re-settles.
+    // Resolves with the elapsed milliseconds; gives up after 1 s so a busy page can't hang the step.
+    private static final String SCROLL_SETTLE_JS =
+            "var el = arguments[0], block = arguments[1], done = arguments[arguments.length - 1];" +
+            "var t0 = Date.now(), last = null, stable = 0, nudged = false;" +
+            "el.scrollIntoView({block: block, inline: 'nearest'});" +
+            "function navBottom() {" +
+            "  var nav = document.querySelector('nav.navbar, .fixed-top, .sticky-top');" +
+            "  if (!nav) return 0;" +
+            "  var pos = getComputedStyle(nav).position;" +
+            "  return (pos === 'fixed' || pos === 'sticky') ? Math.max(0, nav.getBoundingClientRect().bottom) : 0;" +
+            "}" +
+            "(function poll() {" +
+            "  var r = el.getBoundingClientRect();" +
+            "  if (last && r.top === last.top && r.left === last.left) stable++; else stable = 0;" +
+            "  last = r;" +
+            "  if (stable >= 2) {" +
+            "    var covered = r.top < navBottom();" +
+            "    if (covered && !nudged) { nudged = true; stable = 0; window.scrollBy(0, r.top - navBottom() - 8); }" +
+            "    else return done(Date.now() - t0);" +
+            "  }" +
+            "  if (Date.now() - t0 > 1000) return done(Date.now() - t0);" +
+            "  setTimeout(poll, 16);" +
+            "})();";
+
     // Constructor to initialize WebDriver and Wait
     public WaitUtils(WebDriver driver) {
         this.driver = driver;
@@ -21,19 +60,109 @@ public class WaitUtils {
 
     // Wait until element is visible
     public WebElement waitForVisibility(By locator) {
-        System.out.println("Waiting for visibility of element: " + locator.toString());
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        warnIfDoubleWaiting(locator);
+        Log.debug(() -> "Waiting for visibility of element: " + locator.toString());
+        return CommandLatency.time("WaitUtils.waitForVisibility", locator,
+                () -> wait.until(ExpectedConditions.visibilityOfElementLocated(locator)));
     }
 
     // Wait until element is clickable
     public WebElement waitForClickability(By locator) {
-        System.out.println("Waiting for clickability of element: " + locator.toString());
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        warnIfDoubleWaiting(locator);
+        Log.debug(() -> "Waiting for clickability of element: " + locator.toString());
+        return CommandLatency.time("WaitUtils.waitForClickability", locator,
+                () -> wait.until(ExpectedConditions.elementToBeClickable(locator)));
     }
 
     // Wait until element is present in the DOM
     public WebElement waitForPresence(By locator) {
-        System.out.println("Waiting for presence of element in DOM: " + locator.toString());
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        warnIfDoubleWaiting(locator);
+        Log.debug(() -> "Waiting for presence of element in DOM: " + locator.toString());
+        return CommandLatency.time("WaitUtils.waitForPresence", locator,
+                () -> wait.until(ExpectedConditions.presenceOfElementLocated(locator)));
+    }
+
+    // Wait until an element under the given context (e.g. a component's root) is visible
+    public WebElement waitForVisibility(SearchContext context, By locator) {
+        warnIfDoubleWaiting(locator);
+        Log.debug(() -> "Waiting for visibility of element: " + locator + " (scoped)");
+        return CommandLatency.time("WaitUtils.waitForVisibility", locator,
+                () -> wait.until(d -> firstMatch(context, locator, true)));
+    }
+
+    // Wait until an element under the given context is present
+    public WebElement waitForPresence(SearchContext context, By locator) {
+        warnIfDoubleWaiting(locator);
+        Log.debug(() -> "Waiting for presence of element: " + locator + " (scoped)");
+        return CommandLatency.time("WaitUtils.waitForPresence", locator,
+                () -> wait.until(d -> firstMatch(context, locator, false)));
+    }
+
+    // null while absent (or hidden, if visible is required) so the wait keeps polling
+    private static WebElement firstMatch(SearchContext context, By locator, boolean visible) {
+        try {
+            for (WebElement e : context.findElements(locator)) {
+                if (!visible || e.isDisplayed()) return e;
+            }
+        } catch (StaleElementReferenceException e) {
+            // the context or a match was re-rendered mid-poll; try again on the next poll
+        }
+        return null;
+    }
+
+    // Wait until the condition returns something other than null/false (e.g. a page snapshot that is ready)
+    public <T> T until(Function<WebDriver, T> condition) {
+        return CommandLatency.time("WaitUtils.until", null, () -> wait.until(condition));
+    }
+
+    // Scroll the element into view and return as soon as it has settled (no fixed sleep)
+    public WebElement scrollIntoViewSettled(WebElement element, String block) {
+        Object elapsed = ((JavascriptExecutor) driver).executeAsyncScript(SCROLL_SETTLE_JS, element, block);
+        ScrollStats.record(elapsed instanceof Number n ? n.longValue() : 0L);
+        return element;
+    }
+
+    // Wait for visibility, then scroll it to the centre of the viewport and let it settle
+    public WebElement scrollIntoViewSettled(By locator) {
+        return scrollIntoViewSettled(waitForVisibility(locator), "center");
+    }
+
+    // ---------- presence probes (never wait) ----------
+
+    // Returns matches right now; an empty list costs one round trip, not an implicit-wait timeout
+    public List<WebElement> findAllNow(SearchContext context, By locator) {
+        Duration implicit = implicitWait();
+        if (implicit.isZero()) return context.findElements(locator);
+
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return context.findElements(locator);
+        } finally {
+            driver.manage().timeouts().implicitlyWait(implicit);
+        }
+    }
+
+    public List<WebElement> findAllNow(By locator) {
+        return findAllNow(driver, locator);
+    }
+
+    // First match right now, if any
+    public Optional<WebElement> findNow(SearchContext context, By locator) {
+        return findAllNow(context, locator).stream().findFirst();
+    }
+
+    // ---------- implicit/explicit double-wait detection ----------
+
+    private Duration implicitWait() {
+        return IMPLICIT_WAITS.computeIfAbsent(driver, d -> d.manage().timeouts().getImplicitWaitTimeout());
+    }
+
+    // Logged once per session: each poll of the explicit wait would block for the full implicit timeout on a miss
+    private void warnIfDoubleWaiting(By locator) {
+        Duration implicit = implicitWait();
+        if (!implicit.isZero() && DOUBLE_WAIT_REPORTED.putIfAbsent(driver, Boolean.TRUE) == null) {
+            Log.warn(() -> "WARNING: double wait - implicit wait of " + implicit.toMillis() +
+                    " ms is active under an explicit wait for: " + locator + " (use waitMode=explicit)");
+        }
     }
 }
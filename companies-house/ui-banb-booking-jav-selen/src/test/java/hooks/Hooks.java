@@ -3,20 +3,52 @@ package hooks;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
+import testrunner.RerunSelector;
 import utils.BaseTest;
+import utils.ConfigLoader;
+import utils.DriverManager;
+import utils.FailureArtifacts;
+import utils.FlowContext;
+import utils.Log;
+import utils.ScrollStats;
+
+import java.time.Instant;
+import java.util.List;
 
 public class Hooks extends BaseTest {
 
+    private Instant started; // console lines from before this scenario belong to earlier ones on the pooled session
+
     @Before
-    public void beforeScenario() {
-        System.out.println("======= BEFORE SCENARIO: starting WebDriver =======");
-        setup();   // launches browser and sets implicit wait
+    public void beforeScenario(Scenario scenario) {
+        Log.startScenario(scenario.getName()); // tags this worker's log lines until afterScenario
+        started = Instant.now();
+        Log.info("======= BEFORE SCENARIO: leasing WebDriver =======");
+        ScrollStats.reset();
+        // @flows scenarios on the http implementation (-Dflows=http or @http) never need a browser
+        if (FlowContext.select(scenario.getSourceTagNames()).equals("http")) {
+            Log.info("HTTP flows: no browser for this scenario.");
+        } else {
+            setup();   // leases a warm browser from the pool (launches one only if needed)
+        }
     }
 
     @After
     public void afterScenario(Scenario scenario) {
-        System.out.println("======= AFTER SCENARIO: closing WebDriver =======");
-        // (optional) add screenshot capture here if scenario.isFailed()
-        tearDown(); // closes browser once, after the scenario
+        Log.info("======= AFTER SCENARIO: returning WebDriver =======");
+        String scrollSummary = ScrollStats.summaryAndReset(); // time saved vs. the old fixed sleeps
+        Log.info(scrollSummary);
+        scenario.log(scrollSummary);
+        if (scenario.isFailed() && DriverManager.hasDriver() && ConfigLoader.get().failureArtifacts()) {
+            // screenshot, DOM and console are read here; compressing and writing happen in the background
+            List<String> links = FailureArtifacts.capture(getDriver(), scenario.getName(), started);
+            if (!links.isEmpty()) scenario.attach(String.join("\n", links), "text/uri-list", "failure-artifacts");
+        }
+        // resets the session and returns it to the pool (reruns can ask for a fresh browser per scenario instead)
+        tearDown(!RerunSelector.isActive() || ConfigLoader.get().rerunWarmBrowser());
+        FlowContext.clear();
+
+        String log = Log.endScenario();
+        if (!log.isEmpty()) scenario.attach(log, "text/plain", "scenario-log.txt");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package plugins;
+
+import utils.DriverBinaryCache;
+
+import java.io.File;
+
+/**
+ * Writes how long each local browser took to start, split into driver resolution (cold = WebDriverManager
+ * download, warm = manifest lookup) and session creation, with cold/warm averages. Nothing is written on a
+ * dry run, a remote grid or Safari only.
+ */
+public class BrowserStartupPlugin extends JsonReportPlugin {
+
+    public BrowserStartupPlugin(File out) {
+        super(out, "browser startup times", DriverBinaryCache::reset, DriverBinaryCache::report,
+                r -> "Browser startup (cold/warm): " + r.get("cold") + " / " + r.get("warm"));
+    }
+}
@@ -0,0 +1,39 @@
+package plugins;
+
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import utils.CommandLatency;
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * Binds the running step to the worker thread so CommandLatency can attribute WebDriver commands
+ * to it, and writes the latency histograms when the run finishes.
+ * Concurrent listeners get step events on the thread executing the scenario, which is what makes
+ * the thread-local attribution safe under parallel execution.
+ */
+public class CommandLatencyPlugin extends JsonReportPlugin {
+
+    public CommandLatencyPlugin(File out) {
+        super(out, "WebDriver command latency", CommandLatency::reset,
+                () -> CommandLatency.isEmpty() ? Map.of() : CommandLatency.report(), null); // empty: dry run or no browser commands
+    }
+
+    @Override
+    protected void registerHandlers(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepStarted.class, this::stepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, e -> CommandLatency.exitStep());
+    }
+
+    private void stepStarted(TestStepStarted event) {
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            CommandLatency.enterStep(step.getStep().getKeyword().trim() + " " + step.getStep().getText());
+        } else if (event.getTestStep() instanceof HookTestStep hook) {
+            CommandLatency.enterStep("hook: " + hook.getHookType());
+        }
+    }
+}
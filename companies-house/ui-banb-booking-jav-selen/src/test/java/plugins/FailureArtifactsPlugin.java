@@ -0,0 +1,18 @@
+package plugins;
+
+import utils.FailureArtifacts;
+
+import java.io.File;
+
+/**
+ * Waits for the failure artifacts still queued at the end of the run and writes their index: per failed scenario
+ * the screenshot/DOM/console files, duplicates skipped, and time spent capturing on workers vs writing in the background.
+ */
+public class FailureArtifactsPlugin extends JsonReportPlugin {
+
+    public FailureArtifactsPlugin(File out) {
+        super(out, "failure artifact index", FailureArtifacts::reset, FailureArtifacts::report,
+                r -> "Failure artifacts: " + r.get("failures") + " failed scenario(s), " + r.get("filesWritten")
+                        + " file(s), " + r.get("duplicatesSkipped") + " duplicate(s) skipped");
+    }
+}
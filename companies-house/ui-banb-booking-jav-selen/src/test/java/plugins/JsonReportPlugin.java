@@ -0,0 +1,67 @@
+package plugins;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import org.openqa.selenium.json.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A plugin that clears a run-wide collector when the run starts and writes its report as JSON when the run
+ * finishes, printing a short summary first. An empty report (dry run, feature switched off, nothing measured)
+ * writes nothing. Subclasses take the output file as their plugin argument and are registered in
+ * CucumberTestRunner as plugins.{Name}:target/{report}.json.
+ */
+public abstract class JsonReportPlugin implements ConcurrentEventListener {
+
+    private final File out;
+    private final String what;
+    private final Runnable reset;
+    private final Supplier<Map<String, Object>> report;
+    private final Function<Map<String, Object>, String> summary;
+
+    /**
+     * @param what    what the file holds, for the console lines ("page load times")
+     * @param summary printed before the file is written; null prints nothing
+     */
+    protected JsonReportPlugin(File out, String what, Runnable reset, Supplier<Map<String, Object>> report,
+                               Function<Map<String, Object>, String> summary) {
+        this.out = out;
+        this.what = what;
+        this.reset = reset;
+        this.report = report;
+        this.summary = summary;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, e -> reset.run());
+        registerHandlers(publisher);
+        publisher.registerHandlerFor(TestRunFinished.class, e -> write());
+    }
+
+    /** For plugins that also follow steps or scenarios while the run is going. */
+    protected void registerHandlers(EventPublisher publisher) {}
+
+    private void write() {
+        Map<String, Object> data = report.get();
+        if (data.isEmpty()) return;
+        if (summary != null) System.out.println(summary.apply(data).stripTrailing());
+        try {
+            File dir = out.getAbsoluteFile().getParentFile();
+            if (dir != null) Files.createDirectories(dir.toPath());
+            Files.writeString(out.toPath(), new Json().toJson(data), StandardCharsets.UTF_8);
+            System.out.println(Character.toUpperCase(what.charAt(0)) + what.substring(1) + " written to: " + out.getPath());
+        } catch (IOException e) {
+            System.out.println("Could not write " + what + ": " + e.getMessage());
+        }
+    }
+}
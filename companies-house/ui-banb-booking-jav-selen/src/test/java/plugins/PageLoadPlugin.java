@@ -0,0 +1,17 @@
+package plugins;
+
+import utils.PageReadiness;
+
+import java.io.File;
+
+/**
+ * Writes, per page, how long navigations took to become usable (readiness probe passed) next to the
+ * page's full load (loadEventEnd), and the total time not spent waiting for the load event.
+ */
+public class PageLoadPlugin extends JsonReportPlugin {
+
+    public PageLoadPlugin(File out) {
+        super(out, "page load times", PageReadiness::reset, PageReadiness::report,
+                r -> "Page load: " + r.get("savedTotalMs") + " ms not spent waiting for the load event");
+    }
+}
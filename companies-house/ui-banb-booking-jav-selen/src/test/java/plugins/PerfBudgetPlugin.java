@@ -0,0 +1,18 @@
+package plugins;
+
+import utils.PerfBudgets;
+
+import java.io.File;
+
+/**
+ * Writes every front-end performance budget check of the run (actual metrics, budgets, breaches, metrics the browser
+ * did not report) and prints the breached ones, so perfBudgetMode=report runs still show what went over.
+ */
+public class PerfBudgetPlugin extends JsonReportPlugin {
+
+    public PerfBudgetPlugin(File out) {
+        super(out, "performance budget report", PerfBudgets::reset, PerfBudgets::report,
+                r -> "Performance budgets: " + r.get("checks") + " check(s), " + r.get("breached") + " over budget ("
+                        + r.get("mode") + ")\n" + String.join("", PerfBudgets.breachTables()));
+    }
+}
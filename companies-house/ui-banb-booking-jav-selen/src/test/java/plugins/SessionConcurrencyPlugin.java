@@ -0,0 +1,32 @@
+package plugins;
+
+import utils.GridCapacity;
+import utils.SessionThreads;
+import utils.SessionTimeline;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes how many browser sessions were in flight over the run (peak, time-weighted mean, slot utilisation and
+ * the timeline) and how long scenarios waited for a free slot.
+ */
+public class SessionConcurrencyPlugin extends JsonReportPlugin {
+
+    public SessionConcurrencyPlugin(File out) {
+        super(out, "session concurrency", SessionTimeline::reset, SessionConcurrencyPlugin::report,
+                r -> "Sessions in flight: peak " + r.get("peakInFlight") + "/" + r.get("slots")
+                        + ", mean " + r.get("meanInFlight") + ", lease wait " + r.get("leaseWaitTotalMs") + " ms");
+    }
+
+    private static Map<String, Object> report() {
+        Map<String, Object> timeline = SessionTimeline.report(GridCapacity.slots());
+        if (timeline.isEmpty()) return Map.of(); // dry run: no session was leased
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("remote", GridCapacity.isRemote());
+        report.put("virtualThreads", SessionThreads.virtual());
+        report.putAll(timeline);
+        return report;
+    }
+}
@@ -0,0 +1,170 @@
+package plugins;
+
+import io.cucumber.plugin.EventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.HookType;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestSourceRead;
+import io.cucumber.plugin.event.TestStepFinished;
+import org.openqa.selenium.json.Json;
+import testrunner.ShardSelector;
+import utils.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * On a sharded run, writes this shard's own Cucumber JSON (cucumber-shard-i-of-n.json) and its plan
+ * (shard-i-of-n-plan.json: scenarios, estimated load of every shard, fingerprint of the history and the discovered
+ * scenarios) into the given directory, so CI can collect the files from all nodes side by side and check that their
+ * fingerprints agree; the JSON files are also the history of later runs (see shardHistory).
+ * Does nothing when shardCount=1.
+ *
+ * The JSON is built from the public plugin events in the layout of Cucumber's json formatter (features with their
+ * scenario elements, before/steps/after results in nanoseconds); Background steps are listed with each scenario.
+ *
+ * Registered in CucumberTestRunner as plugins.ShardReportPlugin:target/shards
+ */
+public class ShardReportPlugin implements EventListener {
+
+    private static final Pattern FEATURE_NAME = Pattern.compile("^\\s*Feature:\\s*(.*)$", Pattern.MULTILINE);
+
+    private final File dir;
+    private final Map<URI, String> featureNames = new HashMap<>();
+    private final Map<UUID, Map<String, Object>> elements = new LinkedHashMap<>();
+    private final Map<URI, List<Map<String, Object>>> byFeature = new TreeMap<>();
+
+    public ShardReportPlugin(File dir) {
+        this.dir = dir;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        ShardSelector.Plan plan = ShardSelector.currentPlan();
+        if (plan == null) return;
+        String name = "shard-" + plan.shardIndex() + "-of-" + plan.shardCount();
+        publisher.registerHandlerFor(TestSourceRead.class, this::sourceRead);
+        publisher.registerHandlerFor(TestCaseStarted.class, this::caseStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::stepFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, e -> {
+            File json = new File(dir, "cucumber-" + name + ".json");
+            File planFile = new File(dir, name + "-plan.json");
+            try {
+                Files.createDirectories(dir.toPath());
+                Files.writeString(json.toPath(), new Json().toJson(features()), StandardCharsets.UTF_8);
+                Files.writeString(planFile.toPath(), new Json().toJson(plan(plan)), StandardCharsets.UTF_8);
+                Log.info("Shard " + plan.shardIndex() + "/" + plan.shardCount() + " report written to: " + dir.getPath()
+                        + " (fingerprint " + plan.fingerprint().substring(0, 12) + ")");
+            } catch (IOException ex) {
+                Log.warn("Could not write shard report to " + dir.getPath() + ": " + ex.getMessage());
+            }
+        });
+    }
+
+    private void sourceRead(TestSourceRead event) {
+        Matcher m = FEATURE_NAME.matcher(event.getSource());
+        featureNames.put(event.getUri(), m.find() ? m.group(1).trim() : "");
+    }
+
+    private void caseStarted(TestCaseStarted event) {
+        TestCase tc = event.getTestCase();
+        Map<String, Object> element = new LinkedHashMap<>();
+        element.put("id", tc.getId().toString());
+        element.put("keyword", tc.getKeyword());
+        element.put("name", tc.getName());
+        element.put("line", tc.getLocation().getLine());
+        element.put("type", "scenario");
+        element.put("start_timestamp", event.getInstant().toString());
+        element.put("tags", tc.getTags().stream().map(t -> Map.of("name", t)).toList());
+        element.put("before", new ArrayList<>());
+        element.put("steps", new ArrayList<>());
+        element.put("after", new ArrayList<>());
+        elements.put(tc.getId(), element);
+        byFeature.computeIfAbsent(tc.getUri(), u -> new ArrayList<>()).add(element);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stepFinished(TestStepFinished event) {
+        Map<String, Object> element = elements.get(event.getTestCase().getId());
+        if (element == null) return;
+        List<Map<String, Object>> steps = (List<Map<String, Object>>) element.get("steps");
+        Map<String, Object> result = Map.of("result", result(event.getResult()));
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("keyword", step.getStep().getKeyword());
+            s.put("name", step.getStep().getText());
+            s.put("line", step.getStep().getLine());
+            s.putAll(result);
+            steps.add(s);
+        } else if (event.getTestStep() instanceof HookTestStep hook) {
+            // step hooks belong to the step they ran around, as in Cucumber's json formatter
+            if (hook.getHookType() == HookType.BEFORE) ((List<Object>) element.get("before")).add(result);
+            else if (hook.getHookType() == HookType.AFTER) ((List<Object>) element.get("after")).add(result);
+            else if (!steps.isEmpty()) {
+                String part = hook.getHookType() == HookType.BEFORE_STEP ? "before" : "after";
+                ((List<Object>) steps.get(steps.size() - 1).computeIfAbsent(part, k -> new ArrayList<>())).add(result);
+            }
+        }
+    }
+
+    private static Map<String, Object> result(Result r) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("status", r.getStatus().name().toLowerCase(Locale.ROOT));
+        out.put("duration", r.getDuration().toNanos());
+        if (r.getError() != null) out.put("error_message", String.valueOf(r.getError()));
+        return out;
+    }
+
+    // features by uri, scenarios by line: the same file whatever order the workers finished in
+    private List<Map<String, Object>> features() {
+        List<Map<String, Object>> out = new ArrayList<>();
+        byFeature.forEach((uri, scenarios) -> {
+            Map<String, Object> feature = new LinkedHashMap<>();
+            feature.put("uri", uri.toString());
+            feature.put("keyword", "Feature");
+            feature.put("name", featureNames.getOrDefault(uri, ""));
+            List<Map<String, Object>> sorted = new ArrayList<>(scenarios);
+            sorted.sort(Comparator.comparingInt(e -> (Integer) e.get("line")));
+            feature.put("elements", sorted);
+            out.add(feature);
+        });
+        return out;
+    }
+
+    private static Map<String, Object> plan(ShardSelector.Plan plan) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("shardIndex", plan.shardIndex());
+        report.put("shardCount", plan.shardCount());
+        report.put("fingerprint", plan.fingerprint());
+        report.put("scenarios", plan.scenarios());
+        report.put("totalScenarios", plan.total());
+        report.put("scenariosSha256", plan.scenariosSha256());
+        report.put("scenariosWithHistory", plan.withHistory());
+        Map<String, Object> estimates = new LinkedHashMap<>();
+        for (int i = 0; i < plan.shardCount(); i++) {
+            estimates.put(String.valueOf(i + 1), plan.estimatedNanos()[i] / 1_000_000);
+        }
+        report.put("estimatedMsPerShard", estimates);
+        report.put("historyFiles", plan.historyFiles());
+        return report;
+    }
+}
@@ -0,0 +1,113 @@
+package plugins;
+
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestStepFinished;
+import utils.ConfigLoader;
+import utils.Percentiles;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the duration of every step definition across all scenarios and reports
+ * min/mean/p95/max per step pattern, slowest first.
+ * Steps are keyed by their pattern (not the Gherkin text), so "check-in "10" days" and
+ * "check-in "7" days" count as the same step. Samples go into concurrent maps, so
+ * scenarios finishing on different worker threads never contend on a shared list.
+ *
+ * Table size: stepTimingTop (ConfigLoader, default 15).
+ */
+public class StepTimingPlugin extends JsonReportPlugin {
+
+    private final Map<String, StepSamples> steps;
+
+    public StepTimingPlugin(File out) {
+        this(out, new ConcurrentHashMap<>());
+    }
+
+    private StepTimingPlugin(File out, Map<String, StepSamples> steps) {
+        super(out, "step timings", steps::clear, () -> report(steps), StepTimingPlugin::table);
+        this.steps = steps;
+    }
+
+    @Override
+    protected void registerHandlers(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::stepFinished);
+    }
+
+    private void stepFinished(TestStepFinished event) {
+        if (!(event.getTestStep() instanceof PickleStepTestStep step)) return; // hooks are not step definitions
+        Status status = event.getResult().getStatus();
+        if (status != Status.PASSED && status != Status.FAILED) return;     // skipped/undefined never ran
+        steps.computeIfAbsent(step.getPattern(), k -> new StepSamples(step.getCodeLocation()))
+                .add(event.getResult().getDuration().toNanos(), status == Status.FAILED);
+    }
+
+    private static Map<String, Object> report(Map<String, StepSamples> steps) {
+        if (steps.isEmpty()) return Map.of();
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        steps.forEach((pattern, samples) -> rows.add(samples.summary(pattern)));
+        rows.sort(Comparator.comparingDouble((Map<String, Object> r) -> (double) r.get("p95Ms")).reversed());
+        return Map.of("unit", "ms", "steps", rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String table(Map<String, Object> report) {
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) report.get("steps");
+        int top = ConfigLoader.get().stepTimingTop();
+        StringBuilder sb = new StringBuilder("\n======= SLOWEST STEPS (by p95) =======\n");
+        sb.append(String.format("%5s %9s %9s %9s %9s  %s%n", "runs", "min ms", "mean ms", "p95 ms", "max ms", "step"));
+        for (Map<String, Object> r : rows.subList(0, Math.min(top, rows.size()))) {
+            sb.append(String.format("%5d %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    (int) r.get("count"), (double) r.get("minMs"), (double) r.get("meanMs"),
+                    (double) r.get("p95Ms"), (double) r.get("maxMs"), r.get("step")));
+            sb.append(String.format("%45s  -> %s%n", "", r.get("codeLocation")));
+        }
+        return sb.toString();
+    }
+
+    private static final class StepSamples {
+        private final String codeLocation;
+        private long[] nanos = new long[16];
+        private int size;
+        private int failures;
+
+        StepSamples(String codeLocation) {
+            this.codeLocation = codeLocation;
+        }
+
+        synchronized void add(long value, boolean failed) {
+            if (size == nanos.length) nanos = Arrays.copyOf(nanos, size * 2);
+            nanos[size++] = value;
+            if (failed) failures++;
+        }
+
+        synchronized Map<String, Object> summary(String pattern) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            long total = 0;
+            for (long v : sorted) total += v;
+
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("step", pattern);
+            m.put("codeLocation", codeLocation);
+            m.put("count", size);
+            m.put("failures", failures);
+            m.put("minMs", Percentiles.ms(sorted[0]));
+            m.put("meanMs", Percentiles.ms(total / size));
+            m.put("p95Ms", Percentiles.ms(Percentiles.nearestRank(sorted, 95)));
+            m.put("maxMs", Percentiles.ms(sorted[size - 1]));
+            m.put("totalMs", Percentiles.ms(total));
+            return m;
+        }
+    }
+}
@@ -6,11 +6,13 @@ import org.openqa.selenium.WebDriver;
 import pages.ContactPage;
 import pages.HomePage;
 import utils.BaseTest;
+import utils.DriverManager;
 
 import java.util.Locale;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
+import utils.Log;
 
 public class ContactSteps extends BaseTest {
 
@@ -27,22 +29,22 @@ public class ContactSteps extends BaseTest {
 
     @When("User clicks on the Contact link on the navbar")
     public void user_clicks_on_contact_link() {
-        homePage = new HomePage(BaseTest.driver);  // Initialize HomePage
+        homePage = new HomePage(DriverManager.getDriver());  // Initialize HomePage
         homePage.clickContactNav();
-        contactPage = new ContactPage(BaseTest.driver); // Initialize ContactPage
-        System.out.println("Clicked on Contact link in navbar.");
+        contactPage = new ContactPage(DriverManager.getDriver()); // Initialize ContactPage
+        Log.info("Clicked on Contact link in navbar.");
     }
 
     @Then("User is navigated to the Send Us a Message section")
     public void user_is_navigated_to_contact_section() {
         contactPage.waitForContactSection();
-        System.out.println("Reached 'Send Us a Message' section.");
+        Log.info("Reached 'Send Us a Message' section.");
     }
 
     @And("User sees the Name, Email, Phone, Subject and Message fields")
     public void user_sees_contact_fields() {
         assertTrue(contactPage.areAllFieldsVisible(), "One or more Contact fields are not visible.");
-        System.out.println("All Contact fields are visible.");
+        Log.info("All Contact fields are visible.");
     }
 
     @When("User completes the Name, Email, Phone, Subject and Message fields")
@@ -72,7 +74,7 @@ public class ContactSteps extends BaseTest {
         assertTrue(mobileNumber.startsWith("07"), "❌ Phone must start with 07.");
         assertEquals(11, mobileNumber.length(), "❌ Phone must be 11 digits.");
 
-        System.out.println("🧪 Contact data → name:" + senderFullName + ", email:" + emailAddress +
+        Log.info(() -> "🧪 Contact data → name:" + senderFullName + ", email:" + emailAddress +
                 ", phone:" + mobileNumber + ", subject:" + subjectText + ", msgLen:" + messageBody.length());
 
         contactPage.fillContactForm(senderFullName, emailAddress, mobileNumber, subjectText, messageBody);
@@ -88,8 +90,8 @@ public class ContactSteps extends BaseTest {
         String headingText = contactPage.getConfirmationHeading();   // e.g., "Thanks for getting in touch Name1!"
         String subjectShown = contactPage.getConfirmationSubject();   // e.g., "Subject111"
 
-        System.out.println("🧾 Confirmation heading: " + headingText);
-        System.out.println("🧾 Confirmation subject: " + subjectShown);
+        Log.info(() -> "🧾 Confirmation heading: " + headingText);
+        Log.info(() -> "🧾 Confirmation subject: " + subjectShown);
 
         assertAll(
                 () -> assertTrue(headingText.startsWith(expectedPhrase),
@@ -100,6 +102,6 @@ public class ContactSteps extends BaseTest {
                 () -> assertEquals(subjectText, subjectShown, "Subject shown on confirmation does not match.")
         );
 
-        System.out.println("✅ Confirmation shows expected phrase, sender name and subject.");
+        Log.info("✅ Confirmation shows expected phrase, sender name and subject.");
     }
 }
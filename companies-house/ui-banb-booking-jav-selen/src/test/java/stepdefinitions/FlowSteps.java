@@ -0,0 +1,96 @@
+package stepdefinitions;
+
+import flows.BookingFlow;
+import flows.ContactFlow;
+import flows.Guest;
+import io.cucumber.java.en.*;
+import net.datafaker.Faker;
+import pages.RoomCard;
+import pages.RoomCatalogue;
+import utils.FlowContext;
+import utils.Log;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Steps of the @flows scenarios. They only talk to FlowContext.flows(), so the same scenario runs through the
+ * page objects in a browser or straight against the API (-Dflows=http, or an @http tag).
+ */
+public class FlowSteps {
+
+    private final Faker faker = new Faker(new Locale("en-GB"));
+
+    private RoomCatalogue rooms;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private BookingFlow.Confirmation confirmation;
+    private Guest sender;
+    private String subject;
+    private ContactFlow.Receipt receipt;
+
+    @When("the guest lists the rooms")
+    public void the_guest_lists_the_rooms() {
+        rooms = FlowContext.flows().listRooms();
+    }
+
+    @When("the guest checks availability {string} days from today for {string} nights")
+    public void the_guest_checks_availability(String offsetDays, String nights) {
+        checkIn = LocalDate.now(ZoneId.systemDefault()).plusDays(Integer.parseInt(offsetDays.trim()));
+        checkOut = checkIn.plusDays(Integer.parseInt(nights.trim()));
+        rooms = FlowContext.flows().checkAvailability(checkIn, checkOut);
+    }
+
+    @Then("at least one room is offered with a price and a Book now link")
+    public void at_least_one_room_is_offered() {
+        assertTrue(rooms.validCount() >= 1, "No bookable room offered (" + FlowContext.flows().name() + "): " + rooms.all());
+        Log.info(() -> "✅ " + rooms.validCount() + " bookable room(s) via " + FlowContext.flows().name() + ": " + rooms.types());
+    }
+
+    @And("the guest books the first available room")
+    public void the_guest_books_the_first_available_room() {
+        RoomCard room = rooms.firstValid().orElseThrow(() -> new AssertionError("No bookable room to book: " + rooms.all()));
+        confirmation = FlowContext.flows().book(room, checkIn, checkOut, guest());
+        Log.info(() -> "Booked " + room.title() + " → " + confirmation);
+    }
+
+    @Then("the booking is confirmed for the selected dates")
+    public void the_booking_is_confirmed_for_the_selected_dates() {
+        assertAll(
+                () -> assertEquals(checkIn.toString(), confirmation.checkInIso(), "confirmed check-in"),
+                () -> assertEquals(checkOut.toString(), confirmation.checkOutIso(), "confirmed check-out")
+        );
+    }
+
+    @When("the guest sends a contact message")
+    public void the_guest_sends_a_contact_message() {
+        sender = guest();
+        subject = "Subject " + faker.number().digits(4);
+        String message = faker.lorem().sentence(8);
+        if (message.length() < 20) message = message + " " + faker.lorem().sentence(8); // the form wants >= 20 chars
+        receipt = FlowContext.flows().sendMessage(sender, subject, message);
+    }
+
+    @Then("the message is acknowledged with the guest's name and subject")
+    public void the_message_is_acknowledged() {
+        assertAll(
+                () -> assertTrue(receipt.heading().startsWith("Thanks for getting in touch"), "heading: " + receipt.heading()),
+                () -> assertTrue(receipt.heading().contains(sender.firstName()), "sender's first name missing: " + receipt.heading()),
+                () -> assertEquals(subject, receipt.subject(), "subject shown")
+        );
+    }
+
+    // same shape as the booking/contact step data: UK mobile "07" + 9 digits, unique example.test address
+    private Guest guest() {
+        String first = faker.name().firstName();
+        String last = faker.name().lastName();
+        String unique = String.valueOf(System.currentTimeMillis()).substring(8);
+        String email = (first + "." + last + unique + "@example.test").toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9.@]", "");
+        String phone = "07" + String.format("%09d", new Random().nextInt(1_000_000_000));
+        return new Guest(first, last, email, phone);
+    }
+}
@@ -0,0 +1,69 @@
+package stepdefinitions;
+
+import io.cucumber.java.After;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+import io.cucumber.java.en.*;
+import utils.BaseTest;
+import utils.ConfigLoader;
+import utils.PerfBudgets;
+import utils.PerfMetrics;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Front-end performance budgets of the booking journey. The page objects start the measurements at their
+ * transitions (home page load, "Our Rooms" re-render after Check Availability, booking page); these steps read
+ * them once they are final and check them against perfBudget.{view}.{metric} from config.properties.
+ * The measurements only run in @perf scenarios, switched on by the hooks below.
+ */
+public class PerfSteps extends BaseTest {
+
+    private String scenarioName = "";
+    private final Map<String, Map<String, Double>> measured = new HashMap<>(); // per view, read once per scenario
+
+    @Before("@perf")
+    public void startMeasuring(Scenario scenario) {
+        scenarioName = scenario.getName();
+        PerfMetrics.start();
+    }
+
+    @After("@perf")
+    public void stopMeasuring() {
+        PerfMetrics.stop();
+    }
+
+    @Then("the {word} page loads within {int} ms")
+    public void the_page_loads_within(String view, int budgetMs) {
+        Map<String, Double> actual = metrics(view);
+        // a full navigation reports load; a client-side route only the render of the click that caused it
+        String metric = actual.containsKey("load") ? "load" : "render";
+        if (!actual.containsKey(metric)) {
+            throw new AssertionError("No load or render timing reported for the " + view + " page (measured in @perf scenarios only): " + actual);
+        }
+        PerfBudgets.enforce(PerfBudgets.check(scenarioName, view, actual, Map.of(metric, (double) budgetMs)));
+    }
+
+    @Then("the rooms re-render within {int} ms")
+    public void the_rooms_re_render_within(int budgetMs) {
+        Map<String, Double> actual = metrics("rooms");
+        if (!actual.containsKey("render")) {
+            throw new AssertionError("No re-render of 'Our Rooms' seen after Check Availability (measured in @perf scenarios only): " + actual);
+        }
+        PerfBudgets.enforce(PerfBudgets.check(scenarioName, "rooms", actual, Map.of("render", (double) budgetMs)));
+    }
+
+    @Then("the {word} performance budgets are met")
+    public void the_performance_budgets_are_met(String view) {
+        Map<String, Double> budgets = ConfigLoader.get().perfBudgets(view);
+        if (budgets.isEmpty()) throw new IllegalStateException("No perfBudget." + view + ".* keys configured");
+        PerfBudgets.enforce(PerfBudgets.check(scenarioName, view, metrics(view), budgets));
+    }
+
+    private Map<String, Double> metrics(String view) {
+        return measured.computeIfAbsent(view, v -> PerfMetrics.read(getDriver(), v,
+                Duration.ofSeconds(ConfigLoader.get().pageLoadTimeoutSeconds())));
+    }
+}
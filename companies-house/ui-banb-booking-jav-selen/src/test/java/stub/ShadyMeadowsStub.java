@@ -0,0 +1,317 @@
+package stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+import utils.Log;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process stand-in for the Shady Meadows B&B site (https://automationintesting.online).
+ * Serves the home page (booking widget, Our Rooms, Contact), the reservation page and the
+ * /api/room, /api/booking and /api/message endpoints from in-memory storage.
+ * The markup keeps the DOM contract the locators in HomePage, BookingPage and ContactPage rely on.
+ *
+ * Started on demand by ConfigLoader when profile=offline.
+ */
+public final class ShadyMeadowsStub {
+
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter MONTH_LABEL = DateTimeFormatter.ofPattern("MMMM yyyy", Locale.UK);
+    private static final Json JSON = new Json();
+
+    private static ShadyMeadowsStub instance;
+
+    private final HttpServer server;
+    private final StubStore store = new StubStore();
+    private final long latencyMs;
+    private final String homeTemplate = resource("stub/home.html");
+    private final String bookingTemplate = resource("stub/booking.html");
+
+    private ShadyMeadowsStub(int port, long latencyMs) {
+        this.latencyMs = latencyMs;
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the Shady Meadows stub on port " + port, e);
+        }
+        server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "shady-meadows-stub");
+            t.setDaemon(true);
+            return t;
+        }));
+        server.createContext("/", this::handle);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(0), "stub-shutdown"));
+        Log.info(() -> "Shady Meadows stub listening on " + baseUrl() + " (latency " + latencyMs + " ms)");
+    }
+
+    /** Starts the stub once per JVM; later calls return the running instance. */
+    public static synchronized ShadyMeadowsStub ensureStarted(int port, long latencyMs) {
+        if (instance == null) instance = new ShadyMeadowsStub(port, latencyMs);
+        return instance;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    // ---------- routing ----------
+
+    private void handle(HttpExchange ex) throws IOException {
+        try (ex) {
+            if (latencyMs > 0 && !delay()) { // artificial network delay
+                json(ex, 500, Map.of("errors", List.of("Interrupted before responding")));
+                return;
+            }
+            String path = ex.getRequestURI().getPath();
+            String method = ex.getRequestMethod();
+            Map<String, String> query = query(ex.getRequestURI());
+
+            if (path.equals("/") && method.equals("GET")) {
+                html(ex, 200, homePage());
+            } else if (path.equals("/fragments/rooms") && method.equals("GET")) {
+                html(ex, 200, roomCards(date(query.get("checkin"), LocalDate.now()),
+                        date(query.get("checkout"), LocalDate.now().plusDays(1))));
+            } else if (path.startsWith("/reservation/") && method.equals("GET")) {
+                StubStore.Room room = store.room(intOr(path.substring("/reservation/".length()), -1));
+                if (room == null) html(ex, 404, "<h1>Room not found</h1>");
+                else html(ex, 200, bookingPage(room, date(query.get("checkin"), LocalDate.now()),
+                        date(query.get("checkout"), LocalDate.now().plusDays(1))));
+            } else if (path.equals("/api/room") && method.equals("GET")) {
+                List<StubStore.Room> rooms = query.containsKey("checkin") && query.containsKey("checkout")
+                        ? store.availableRooms(date(query.get("checkin"), null), date(query.get("checkout"), null))
+                        : store.rooms();
+                json(ex, 200, Map.of("rooms", rooms.stream().map(StubStore.Room::toJson).toList()));
+            } else if (path.startsWith("/api/room/") && method.equals("GET")) {
+                StubStore.Room room = store.room(intOr(path.substring("/api/room/".length()), -1));
+                if (room == null) json(ex, 404, Map.of("errors", List.of("Room not found")));
+                else json(ex, 200, room.toJson());
+            } else if (path.equals("/api/booking") && method.equals("POST")) {
+                createBooking(ex);
+            } else if (path.equals("/api/booking") && method.equals("GET")) {
+                json(ex, 200, Map.of("bookings", store.bookings().stream().map(StubStore.Booking::toJson).toList()));
+            } else if (path.equals("/api/message") && method.equals("POST")) {
+                createMessage(ex);
+            } else if (path.equals("/api/message") && method.equals("GET")) {
+                json(ex, 200, Map.of("messages", store.messages().stream().map(StubStore.Message::toJson).toList()));
+            } else {
+                json(ex, 404, Map.of("errors", List.of("Not found: " + method + " " + path)));
+            }
+        }
+    }
+
+    private boolean delay() {
+        try {
+            Thread.sleep(latencyMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void createBooking(HttpExchange ex) throws IOException {
+        Map<String, Object> body = body(ex);
+        String first = str(body.get("firstname")), last = str(body.get("lastname"));
+        String email = str(body.get("email")), phone = str(body.get("phone"));
+        List<String> errors = StubStore.validateBooking(first, last, email, phone);
+        int roomid = intOr(str(body.get("roomid")), -1);
+        if (store.room(roomid) == null) errors.add("Room not found"); // the real API rejects unknown rooms too
+
+        Map<?, ?> dates = body.get("bookingdates") instanceof Map<?, ?> m ? m : Map.of();
+        LocalDate in = date(str(dates.get("checkin")), null), out = date(str(dates.get("checkout")), null);
+        if (in == null || out == null || !out.isAfter(in)) errors.add("Check-out must be after check-in");
+        if (!errors.isEmpty()) {
+            json(ex, 400, Map.of("errors", errors));
+            return;
+        }
+
+        StubStore.Booking booking = store.book(roomid, first, last, email, phone, in, out);
+        if (booking == null) json(ex, 409, Map.of("errors", List.of("The room dates are either invalid or are already booked for one or more of the dates that you have selected.")));
+        else json(ex, 201, booking.toJson());
+    }
+
+    private void createMessage(HttpExchange ex) throws IOException {
+        Map<String, Object> body = body(ex);
+        String name = str(body.get("name")), email = str(body.get("email")), phone = str(body.get("phone"));
+        String subject = str(body.get("subject")), description = str(body.get("description"));
+        List<String> errors = StubStore.validateMessage(name, email, phone, subject, description);
+        if (!errors.isEmpty()) {
+            json(ex, 400, Map.of("errors", errors));
+            return;
+        }
+        json(ex, 200, store.message(name, email, phone, subject, description).toJson());
+    }
+
+    // ---------- pages ----------
+
+    private String homePage() {
+        LocalDate today = LocalDate.now();
+        return homeTemplate
+                .replace("{{checkin}}", today.format(DMY))
+                .replace("{{checkout}}", today.plusDays(1).format(DMY))
+                .replace("{{roomCards}}", roomCards(today, today.plusDays(1)));
+    }
+
+    private String roomCards(LocalDate checkin, LocalDate checkout) {
+        StringBuilder sb = new StringBuilder();
+        for (StubStore.Room r : store.availableRooms(checkin, checkout)) {
+            sb.append("<div class=\"col-md-6 col-lg-4\"><div class=\"card h-100 shadow-sm room-card\">")
+              .append("<div class=\"card-body\"><h5 class=\"card-title\">").append(esc(r.type())).append("</h5>")
+              .append("<p class=\"card-text\">").append(esc(r.description())).append("</p></div>")
+              .append("<div class=\"card-footer d-flex justify-content-between align-items-center\">")
+              .append("<div class=\"fw-bold fs-5\">£").append(r.roomPrice())
+              .append(" <small class=\"text-muted fw-normal\">per night</small></div>")
+              .append("<a class=\"btn btn-primary\" href=\"/reservation/").append(r.roomid())
+              .append("?checkin=").append(checkin).append("&amp;checkout=").append(checkout).append("\">Book now</a>")
+              .append("</div></div></div>");
+        }
+        return sb.toString();
+    }
+
+    private String bookingPage(StubStore.Room room, LocalDate checkin, LocalDate checkout) {
+        long nights = Math.max(1, checkout.toEpochDay() - checkin.toEpochDay());
+        int cleaning = 25, service = 15;
+        StringBuilder features = new StringBuilder();
+        for (String f : room.features()) features.append("<li class=\"list-inline-item\">").append(esc(f)).append("</li>");
+        return bookingTemplate
+                .replace("{{roomId}}", String.valueOf(room.roomid()))
+                .replace("{{roomTitle}}", esc(room.type()) + " Room")
+                .replace("{{roomDescription}}", esc(room.description()))
+                .replace("{{roomFeatures}}", features.toString())
+                .replace("{{price}}", String.valueOf(room.roomPrice()))
+                .replace("{{nights}}", String.valueOf(nights))
+                .replace("{{subtotal}}", String.valueOf(room.roomPrice() * nights))
+                .replace("{{cleaning}}", String.valueOf(cleaning))
+                .replace("{{service}}", String.valueOf(service))
+                .replace("{{total}}", String.valueOf(room.roomPrice() * nights + cleaning + service))
+                .replace("{{checkinIso}}", checkin.toString())
+                .replace("{{checkoutIso}}", checkout.toString())
+                .replace("{{calendarLabel}}", checkin.format(MONTH_LABEL))
+                .replace("{{calendarWeeks}}", calendarWeeks(checkin, checkout));
+    }
+
+    /** Six-week month grid in React Big Calendar markup, with a 'Selected' event over the stay. */
+    private static String calendarWeeks(LocalDate checkin, LocalDate checkout) {
+        LocalDate first = checkin.withDayOfMonth(1);
+        LocalDate start = first.minusDays(first.getDayOfWeek().getValue() % 7); // weeks start on Sunday
+        StringBuilder sb = new StringBuilder();
+        for (int w = 0; w < 6; w++) {
+            LocalDate weekStart = start.plusWeeks(w);
+            sb.append("<div class=\"rbc-month-row\"><div class=\"rbc-row-content\"><div class=\"rbc-row\">");
+            for (int d = 0; d < 7; d++) {
+                LocalDate day = weekStart.plusDays(d);
+                sb.append("<div class=\"rbc-date-cell").append(day.getMonth() == first.getMonth() ? "" : " rbc-off-range")
+                  .append("\"><button type=\"button\" class=\"rbc-button-link\">")
+                  .append(String.format("%02d", day.getDayOfMonth())).append("</button></div>");
+            }
+            sb.append("</div>");
+            // event segment for the part of the stay that falls in this week
+            LocalDate segStart = checkin.isAfter(weekStart) ? checkin : weekStart;
+            LocalDate segEnd = checkout.isBefore(weekStart.plusDays(6)) ? checkout : weekStart.plusDays(6);
+            if (!segStart.isAfter(segEnd)) {
+                long offset = segStart.toEpochDay() - weekStart.toEpochDay();
+                long span = segEnd.toEpochDay() - segStart.toEpochDay() + 1;
+                sb.append("<div class=\"rbc-row\"><div class=\"rbc-row-segment\" style=\"margin-left:")
+                  .append(String.format(Locale.ROOT, "%.4f", offset * 100 / 7.0)).append("%;width:")
+                  .append(String.format(Locale.ROOT, "%.4f", span * 100 / 7.0)).append("%\">")
+                  .append("<div class=\"rbc-event\"><div class=\"rbc-event-content\" title=\"Selected\">Selected</div></div>")
+                  .append("</div></div>");
+            }
+            sb.append("</div></div>");
+        }
+        return sb.toString();
+    }
+
+    // ---------- http helpers ----------
+
+    private static void html(HttpExchange ex, int status, String body) throws IOException {
+        send(ex, status, "text/html; charset=utf-8", body);
+    }
+
+    private static void json(HttpExchange ex, int status, Object body) throws IOException {
+        send(ex, status, "application/json", JSON.toJson(body));
+    }
+
+    private static void send(HttpExchange ex, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", contentType);
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static Map<String, Object> body(HttpExchange ex) throws IOException {
+        String raw = new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (raw.isBlank()) return new HashMap<>();
+        try {
+            return new HashMap<>(JSON.toType(raw, Json.MAP_TYPE));
+        } catch (RuntimeException e) {
+            return new HashMap<>();
+        }
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> out = new HashMap<>();
+        String q = uri.getRawQuery();
+        if (q == null) return out;
+        for (String part : q.split("&")) {
+            String[] kv = part.split("=", 2);
+            out.put(URLDecoder.decode(kv[0], StandardCharsets.UTF_8),
+                    kv.length > 1 ? URLDecoder.decode(kv[1], StandardCharsets.UTF_8) : "");
+        }
+        return out;
+    }
+
+    private static LocalDate date(String iso, LocalDate fallback) {
+        if (iso == null || iso.isBlank()) return fallback;
+        try {
+            return LocalDate.parse(iso.trim());
+        } catch (DateTimeParseException e) {
+            return fallback;
+        }
+    }
+
+    private static int intOr(String s, int fallback) {
+        try {
+            return (int) Double.parseDouble(s.trim());
+        } catch (RuntimeException e) {
+            return fallback;
+        }
+    }
+
+    private static String str(Object o) {
+        return o == null ? "" : String.valueOf(o).trim();
+    }
+
+    private static String esc(String s) {
+        return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static String resource(String name) {
+        try (InputStream in = ShadyMeadowsStub.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) throw new IllegalStateException("Missing stub resource: " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
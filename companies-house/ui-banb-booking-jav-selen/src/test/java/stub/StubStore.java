@@ -0,0 +1,151 @@
+package stub;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory rooms, bookings and messages behind the stub's /api endpoints.
+ * Field names and validation messages mirror the real restful-booker-platform API.
+ */
+final class StubStore {
+
+    record Room(int roomid, String roomName, String type, int roomPrice, String description, List<String> features) {
+        Map<String, Object> toJson() {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("roomid", roomid);
+            m.put("roomName", roomName);
+            m.put("type", type);
+            m.put("accessible", true);
+            m.put("roomPrice", roomPrice);
+            m.put("description", description);
+            m.put("features", features);
+            return m;
+        }
+    }
+
+    record Booking(int bookingid, int roomid, String firstname, String lastname, String email, String phone,
+                   LocalDate checkin, LocalDate checkout) {
+        boolean overlaps(LocalDate in, LocalDate out) {
+            return in.isBefore(checkout) && out.isAfter(checkin);
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("bookingid", bookingid);
+            m.put("roomid", roomid);
+            m.put("firstname", firstname);
+            m.put("lastname", lastname);
+            m.put("depositpaid", false);
+            m.put("email", email);
+            m.put("phone", phone);
+            m.put("bookingdates", Map.of("checkin", checkin.toString(), "checkout", checkout.toString()));
+            return m;
+        }
+    }
+
+    record Message(int messageid, String name, String email, String phone, String subject, String description) {
+        Map<String, Object> toJson() {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("messageid", messageid);
+            m.put("name", name);
+            m.put("email", email);
+            m.put("phone", phone);
+            m.put("subject", subject);
+            m.put("description", description);
+            return m;
+        }
+    }
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final List<Room> rooms = List.of(
+            new Room(1, "101", "Single", 100, "A bright single room overlooking the meadow, ideal for solo travellers.",
+                    List.of("WiFi", "TV", "Safe")),
+            new Room(2, "102", "Double", 150, "A spacious double room with a king-size bed and garden views.",
+                    List.of("WiFi", "TV", "Radio", "Safe")),
+            new Room(3, "103", "Suite", 225, "Our finest suite with a separate lounge and a private terrace.",
+                    List.of("WiFi", "TV", "Radio", "Refreshments", "Safe", "Views")));
+
+    private final List<Booking> bookings = new CopyOnWriteArrayList<>();
+    private final List<Message> messages = new CopyOnWriteArrayList<>();
+    private final AtomicInteger bookingIds = new AtomicInteger(1);
+    private final AtomicInteger messageIds = new AtomicInteger(1);
+
+    List<Room> rooms() {
+        return rooms;
+    }
+
+    Room room(int roomid) {
+        return rooms.stream().filter(r -> r.roomid() == roomid).findFirst().orElse(null);
+    }
+
+    /** Rooms without a booking overlapping [checkin, checkout). */
+    List<Room> availableRooms(LocalDate checkin, LocalDate checkout) {
+        List<Room> free = new ArrayList<>();
+        for (Room r : rooms) {
+            boolean taken = bookings.stream().anyMatch(b -> b.roomid() == r.roomid() && b.overlaps(checkin, checkout));
+            if (!taken) free.add(r);
+        }
+        return free;
+    }
+
+    List<Booking> bookings() {
+        return bookings;
+    }
+
+    List<Message> messages() {
+        return messages;
+    }
+
+    // ---------- validation (same wording as the real API) ----------
+
+    static List<String> validateBooking(String firstname, String lastname, String email, String phone) {
+        List<String> errors = new ArrayList<>();
+        if (firstname.isBlank()) errors.add("Firstname should not be blank");
+        if (firstname.length() < 3 || firstname.length() > 18) errors.add("size must be between 3 and 18");
+        if (lastname.isBlank()) errors.add("Lastname should not be blank");
+        if (lastname.length() < 3 || lastname.length() > 30) errors.add("size must be between 3 and 30");
+        if (email.isBlank()) errors.add("must not be empty");
+        else if (!EMAIL.matcher(email).matches()) errors.add("must be a well-formed email address");
+        if (phone.isBlank()) errors.add("must not be empty");
+        if (phone.length() < 11 || phone.length() > 21) errors.add("size must be between 11 and 21");
+        return errors;
+    }
+
+    static List<String> validateMessage(String name, String email, String phone, String subject, String description) {
+        List<String> errors = new ArrayList<>();
+        if (name.isBlank()) errors.add("Name may not be blank");
+        if (email.isBlank()) errors.add("Email may not be blank");
+        else if (!EMAIL.matcher(email).matches()) errors.add("must be a well-formed email address");
+        if (phone.isBlank()) errors.add("Phone may not be blank");
+        if (phone.length() < 11 || phone.length() > 21) errors.add("Phone must be between 11 and 21 characters.");
+        if (subject.length() < 5 || subject.length() > 100) errors.add("Subject must be between 5 and 100 characters.");
+        if (description.length() < 20 || description.length() > 2000) errors.add("Message must be between 20 and 2000 characters.");
+        return errors;
+    }
+
+    // ---------- writes ----------
+
+    /** Stores the booking, or returns null if the room is already booked for an overlapping range. */
+    synchronized Booking book(int roomid, String firstname, String lastname, String email, String phone,
+                              LocalDate checkin, LocalDate checkout) {
+        if (room(roomid) == null) throw new IllegalArgumentException("No room " + roomid);
+        boolean taken = bookings.stream().anyMatch(b -> b.roomid() == roomid && b.overlaps(checkin, checkout));
+        if (taken) return null;
+        Booking b = new Booking(bookingIds.getAndIncrement(), roomid, firstname, lastname, email, phone, checkin, checkout);
+        bookings.add(b);
+        return b;
+    }
+
+    Message message(String name, String email, String phone, String subject, String description) {
+        Message m = new Message(messageIds.getAndIncrement(), name, email, phone, subject, description);
+        messages.add(m);
+        return m;
+    }
+}
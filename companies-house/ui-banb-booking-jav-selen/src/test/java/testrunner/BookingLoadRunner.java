@@ -0,0 +1,203 @@
+package testrunner;
+
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import pages.BookingPage;
+import pages.HomePage;
+import utils.BaseTest;
+import utils.ConfigLoader;
+import utils.DriverManager;
+import utils.GridCapacity;
+import utils.LoadStats;
+import utils.Log;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Booking load mode: loadUsers headless browsers each run the home page booking journey of the @smoke scenario
+ * (dates -> Book now -> Reserve Now -> form -> Reserve Now -> confirmation) through the same page objects, in a loop,
+ * for loadDurationSeconds or loadIterations journeys per user:
+ *
+ *   mvn test -Dtest=BookingLoadRunner -Dprofile=offline -DloadUsers=8 -DloadDurationSeconds=120
+ *
+ * Every journey books its own night (from loadDateOffsetDays on, two days apart) so the site never answers 409 for
+ * dates an earlier journey took. Sessions come from BaseTest's driver pool, sized to loadUsers for local browsers
+ * unless poolSize is set; on a grid, users beyond the free slots wait for one. Journeys per minute, per-step latency
+ * percentiles and error rates go to target/booking-load.json. Not part of the Cucumber suites.
+ */
+public class BookingLoadRunner {
+
+    private static final DateTimeFormatter DMY = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final Path REPORT = Path.of("target", "booking-load.json");
+
+    private final ConfigLoader config = ConfigLoader.get();
+    private final LoadStats stats = new LoadStats();
+    private final AtomicInteger nights = new AtomicInteger();
+    private LocalDate firstNight;
+    private volatile long deadline;
+
+    @Test
+    void bookingJourneyUnderLoad() throws Exception {
+        int users = config.loadUsers();
+        int iterations = config.loadIterations();
+        if (users < 1) throw new IllegalArgumentException("loadUsers must be at least 1 (got: " + users + ").");
+
+        // before BaseTest is loaded: load users are headless and, locally, each gets its own pooled browser
+        if (System.getProperty("headless") == null) System.setProperty("headless", "true");
+        // LoadStats times the steps; per-command samples would only pile up, as nothing reports or resets them here
+        if (System.getProperty("commandTiming") == null) System.setProperty("commandTiming", "false");
+        if (!GridCapacity.isRemote() && System.getProperty("poolSize") == null) {
+            System.setProperty("poolSize", String.valueOf(Math.max(users, config.poolSize())));
+        }
+
+        // the live site keeps bookings between runs: start somewhere random so reruns don't collide
+        int offset = config.loadDateOffsetDays() + (config.isOffline() ? 0 : ThreadLocalRandom.current().nextInt(0, 104) * 7);
+        firstNight = LocalDate.now(ZoneId.systemDefault()).plusDays(offset);
+        String baseUrl = config.baseUrl();
+        Log.info(() -> "Load: " + users + " user(s), " + (iterations > 0 ? iterations + " journey(s) each"
+                : config.loadDurationSeconds() + " s") + " against " + baseUrl + ", first night " + firstNight);
+
+        ExecutorService pool = Executors.newFixedThreadPool(users, new LoadUserThreads());
+        long rampNanos = TimeUnit.SECONDS.toNanos(config.loadRampUpSeconds());
+        stats.begin();
+        deadline = iterations > 0 ? Long.MAX_VALUE : System.nanoTime() + TimeUnit.SECONDS.toNanos(config.loadDurationSeconds());
+        for (int u = 0; u < users; u++) {
+            long delay = rampNanos * u / users;
+            pool.execute(() -> user(delay, iterations));
+        }
+        pool.shutdown();
+        long budget = iterations > 0 ? Long.MAX_VALUE : TimeUnit.SECONDS.toNanos(config.loadDurationSeconds())
+                + rampNanos + TimeUnit.SECONDS.toNanos(config.pageLoadTimeoutSeconds() * 4L);
+        if (!pool.awaitTermination(budget, TimeUnit.NANOSECONDS)) {
+            Log.warn("Load: users still busy after the run window; reporting what has finished.");
+            pool.shutdownNow();
+        }
+        stats.finish();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baseUrl", baseUrl);
+        report.put("users", users);
+        report.put(iterations > 0 ? "iterationsPerUser" : "durationSeconds", iterations > 0 ? iterations : config.loadDurationSeconds());
+        report.put("rampUpSeconds", config.loadRampUpSeconds());
+        report.putAll(stats.report());
+        write(report);
+
+        assertTrue((int) report.get("journeysCompleted") > 0, "No booking journey completed; see " + REPORT);
+    }
+
+    // one simulated guest: keeps its leased browser between journeys, starts over on a fresh one after a failure
+    private void user(long delayNanos, int iterations) {
+        try {
+            if (delayNanos > 0) TimeUnit.NANOSECONDS.sleep(delayNanos);
+            Faker faker = new Faker(new Locale("en-GB"));
+            for (int i = 0; iterations > 0 ? i < iterations : System.nanoTime() < deadline; i++) {
+                if (!journey(faker)) BaseTest.tearDown(false);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            BaseTest.tearDown();
+        }
+    }
+
+    private boolean journey(Faker faker) {
+        int n = nights.getAndIncrement();
+        LocalDate checkIn = firstNight.plusDays(2L * n);
+        String first = faker.name().firstName();
+        String last = faker.name().lastName();
+        String email = (first + "." + last + n + "@example.test").toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9.@]", "");
+        String phone = "07" + String.format("%09d", ThreadLocalRandom.current().nextInt(1_000_000_000));
+
+        stats.journeyStarted();
+        long start = System.nanoTime();
+        HomePage[] home = new HomePage[1];
+        BookingPage[] booking = new BookingPage[1];
+        boolean ok = step("openHome", () -> {
+                    BaseTest.openHome();
+                    home[0] = new HomePage(driver());
+                })
+                && step("enterDates", () -> {
+                    home[0].scrollToBookingSection();
+                    home[0].enterCheckInAndOutDates(checkIn.format(DMY), checkIn.plusDays(1).format(DMY));
+                    home[0].clickCheckAvailability();
+                })
+                && step("bookNow", () -> {
+                    home[0].clickFirstBookNowAndCaptureRoomTitle();
+                    booking[0] = new BookingPage(driver());
+                    check(booking[0].isLoaded(), "booking page not loaded");
+                })
+                && step("openForm", () -> {
+                    booking[0].scrollToReserveButton();
+                    booking[0].clickReserveNow();
+                })
+                && step("fillForm", () -> booking[0].fillBookingForm(first, last, email, phone))
+                && step("reserve", () -> {
+                    booking[0].scrollToReserveButton();
+                    booking[0].clickReserveNow();
+                    check(booking[0].isBookingConfirmedVisible(), "booking not confirmed");
+                });
+        if (ok) stats.journeyCompleted(System.nanoTime() - start);
+        return ok;
+    }
+
+    private boolean step(String name, Runnable action) {
+        long t0 = System.nanoTime();
+        try {
+            action.run();
+            stats.step(name, System.nanoTime() - t0);
+            return true;
+        } catch (RuntimeException | AssertionError e) {
+            Log.warn(() -> "Load: step " + name + " failed (" + e.getClass().getSimpleName() + ": " + e.getMessage() + ")");
+            stats.stepFailed(name, e);
+            return false;
+        }
+    }
+
+    private static WebDriver driver() {
+        return DriverManager.getDriver();
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) throw new IllegalStateException(message);
+    }
+
+    private static void write(Map<String, Object> report) {
+        System.out.println("Booking load: " + report.get("journeysCompleted") + " journey(s) completed, "
+                + report.get("journeysPerMinute") + "/min, error rate " + report.get("errorRate"));
+        try {
+            Files.createDirectories(REPORT.getParent());
+            Files.writeString(REPORT, new Json().toJson(report), StandardCharsets.UTF_8);
+            System.out.println("Booking load report written to: " + REPORT);
+        } catch (IOException e) {
+            System.out.println("Could not write booking load report: " + e.getMessage());
+        }
+    }
+
+    private static final class LoadUserThreads implements ThreadFactory {
+        private final AtomicInteger next = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            return new Thread(r, "load-user-" + next.getAndIncrement());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package testrunner;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads Cucumber's json report (and the per-shard files of plugins.ShardReportPlugin, same layout): features with
+ * their elements, a Background being its own element just before the scenario it ran for. Shared by ShardSelector
+ * (durations) and RerunReportMerger (outcomes).
+ */
+final class CucumberJson {
+
+    private static final String[] PARTS = {"before", "steps", "after"};
+
+    private CucumberJson() {}
+
+    /** The features of a report; an empty file (run aborted before writing) has none. */
+    static List<Map<String, Object>> read(Path file) throws IOException {
+        if (Files.size(file) == 0) return List.of();
+        return parse(Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    static List<Map<String, Object>> parse(String json) {
+        return json.isBlank() ? List.of() : new Json().toType(json, Json.LIST_OF_MAPS_TYPE);
+    }
+
+    /** Backgrounds and scenarios of a feature, in report order; a copy the caller may change. */
+    static List<Object> elements(Map<String, Object> feature) {
+        return new ArrayList<>(list(feature.get("elements")));
+    }
+
+    static boolean isBackground(Object element) {
+        return "background".equals(((Map<?, ?>) element).get("type"));
+    }
+
+    /** The result of every hook and step of an element. */
+    static List<Map<?, ?>> results(Map<?, ?> element) {
+        List<Map<?, ?>> out = new ArrayList<>();
+        for (String part : PARTS) {
+            for (Object o : list(element.get(part))) {
+                if (((Map<?, ?>) o).get("result") instanceof Map<?, ?> r) out.add(r);
+            }
+        }
+        return out;
+    }
+
+    /** Steps + hooks, nanoseconds. */
+    static long duration(Map<?, ?> element) {
+        long nanos = 0;
+        for (Map<?, ?> r : results(element)) {
+            if (r.get("duration") instanceof Number n) nanos += n.longValue();
+        }
+        return nanos;
+    }
+
+    /** Anything but passed (failed, skipped, undefined, pending) counts as failed. */
+    static boolean failed(Map<?, ?> element) {
+        return results(element).stream().anyMatch(r -> !"passed".equals(r.get("status")));
+    }
+
+    private static List<?> list(Object value) {
+        return value instanceof List<?> l ? l : List.of();
+    }
+}
@@ -12,12 +12,25 @@ import org.junit.platform.suite.api.Suite;
  * Purpose: Tell JUnit 5 to execute Cucumber features as tests.
  *
  * OOP: Declarative configuration via annotations; no code required inside.
+ *
+ * Parallelism: scenarios run concurrently, one browser per worker thread.
+ * Worker count lives in junit-platform.properties and can be overridden with
+ * -Dcucumber.execution.parallel.config.fixed.parallelism=N; on a remote grid it follows the grid's slots
+ * (see GridParallelism).
+ *
+ * Sharding across CI nodes: -DshardCount=N -DshardIndex=i runs only node i's scenarios (see ShardSelector).
+ * Failed scenarios are listed in target/rerun.txt; RerunTestRunner runs just those.
  */
 @Suite
 @IncludeEngines("cucumber")
 @SelectClasspathResource("features") // looks in src/test/resources/features
 @ConfigurationParameter(key = Constants.PLUGIN_PROPERTY_NAME,
-        value = "pretty, html:target/cucumber-report.html, json:target/cucumber.json, junit:target/cucumber-reports/TEST-results.xml, summary"
+        value = "pretty, html:target/cucumber-report.html, json:target/cucumber.json, junit:target/cucumber-reports/TEST-results.xml, rerun:target/rerun.txt, summary, "
+                + "plugins.CommandLatencyPlugin:target/webdriver-latency.json, plugins.StepTimingPlugin:target/step-timings.json, "
+                + "plugins.BrowserStartupPlugin:target/browser-startup.json, plugins.ResourceBlockingPlugin:target/resource-blocking.json, "
+                + "plugins.PageLoadPlugin:target/page-load.json, plugins.ShardReportPlugin:target/shards, "
+                + "plugins.SessionConcurrencyPlugin:target/session-concurrency.json, "
+                + "plugins.FailureArtifactsPlugin:target/failure-artifacts/index.json, plugins.PerfBudgetPlugin:target/perf-budgets.json"
 )
 public class CucumberTestRunner {
 }
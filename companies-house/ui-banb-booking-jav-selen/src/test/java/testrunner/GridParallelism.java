@@ -0,0 +1,35 @@
+package testrunner;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+import utils.GridCapacity;
+import utils.Log;
+
+/**
+ * Scenario worker count. Local runs keep the fixed value (cucumber.execution.parallel.config.fixed.parallelism);
+ * with remoteUrl set, scenarios mostly wait on HTTP to the grid, so there is one worker per grid slot
+ * (GridCapacity) instead, and the driver pool's slot semaphore applies backpressure when the grid is full.
+ *
+ * Selected in junit-platform.properties (cucumber.execution.parallel.config.strategy=custom).
+ */
+public class GridParallelism implements ParallelExecutionConfigurationStrategy {
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters params) {
+        int workers = GridCapacity.isRemote()
+                ? GridCapacity.slots()
+                : params.get("fixed.parallelism", Integer::valueOf).orElse(Runtime.getRuntime().availableProcessors());
+        int maxPool = params.get("fixed.max-pool-size", Integer::valueOf).orElse(workers + 256);
+        Log.info(() -> "Scenario workers: " + workers + (GridCapacity.isRemote() ? " (one per grid slot)" : ""));
+        return new Configuration(workers, Math.max(workers, maxPool));
+    }
+
+    private record Configuration(int parallelism, int maxPoolSize) implements ParallelExecutionConfiguration {
+        @Override public int getParallelism()      { return parallelism; }
+        @Override public int getMinimumRunnable()  { return parallelism; }
+        @Override public int getMaxPoolSize()      { return maxPoolSize; }
+        @Override public int getCorePoolSize()     { return parallelism; }
+        @Override public int getKeepAliveSeconds() { return 30; }
+    }
+}
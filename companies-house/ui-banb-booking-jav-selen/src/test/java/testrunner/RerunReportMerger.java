@@ -0,0 +1,183 @@
+package testrunner;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+import org.openqa.selenium.json.Json;
+import utils.Log;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * After a RerunTestRunner run, replaces the rerun scenarios in the original reports with their rerun results,
+ * so CI shows the final outcome:
+ *
+ *   target/cucumber.json                        scenario elements matched by feature uri + line
+ *   target/cucumber-reports/TEST-results.xml    testcases matched by feature + scenario name; suite counts updated
+ *
+ * The originals are copied to target/rerun/ (before-merge-*) first, and target/rerun/summary.json lists which
+ * scenarios passed on rerun (flaky) and which still fail. Runs when the test plan has finished, after Cucumber
+ * has closed its report files.
+ *
+ * Registered in META-INF/services/org.junit.platform.launcher.TestExecutionListener.
+ */
+public class RerunReportMerger implements TestExecutionListener {
+
+    private final File dir = new File("target");
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (RerunSelector.isActive()) merge();
+    }
+
+    private void merge() {
+        Path rerunDir = dir.toPath().resolve("rerun");
+        Path rerunJson = rerunDir.resolve("cucumber.json");
+        if (!Files.isRegularFile(rerunJson)) return;
+        try {
+            List<Map<String, Object>> reran = CucumberJson.read(rerunJson);
+            if (reran.isEmpty()) {
+                Log.info("Rerun: nothing was rerun, reports left unchanged.");
+                return;
+            }
+            Map<String, Object> summary = summary(reran);
+            mergeJson(dir.toPath().resolve("cucumber.json"), reran, rerunDir);
+            mergeJunit(dir.toPath().resolve("cucumber-reports").resolve("TEST-results.xml"),
+                    rerunDir.resolve("TEST-results.xml"), rerunDir);
+            Files.writeString(rerunDir.resolve("summary.json"), new Json().toJson(summary), StandardCharsets.UTF_8);
+            Log.info("Rerun: passed on rerun (flaky) " + summary.get("passedOnRerun")
+                    + ", still failing " + summary.get("stillFailing") + "; merged into " + dir.getPath());
+        } catch (Exception e) {
+            Log.warn("Could not merge rerun results: " + e.getMessage());
+        }
+    }
+
+    // ---------- cucumber.json ----------
+
+    private static void mergeJson(Path original, List<Map<String, Object>> reran, Path backupDir) throws IOException {
+        if (!Files.isRegularFile(original)) return;
+        Files.copy(original, backupDir.resolve("before-merge-cucumber.json"), StandardCopyOption.REPLACE_EXISTING);
+        List<Map<String, Object>> features = CucumberJson.read(original);
+        for (Map<String, Object> rerunFeature : reran) {
+            Map<String, Object> feature = features.stream()
+                    .filter(f -> String.valueOf(f.get("uri")).equals(rerunFeature.get("uri"))).findFirst().orElse(null);
+            if (feature == null) continue;
+            List<Object> elements = CucumberJson.elements(feature);
+            List<Object> rerunElements = CucumberJson.elements(rerunFeature);
+            for (int j = 0; j < rerunElements.size(); j++) {
+                Map<?, ?> scenario = (Map<?, ?>) rerunElements.get(j);
+                if (CucumberJson.isBackground(scenario)) continue;
+                int i = indexOfScenario(elements, scenario.get("line"));
+                if (i < 0) continue;
+                elements.set(i, scenario);
+                // a feature-level Background is its own element just before the scenario; it ran again too
+                if (i > 0 && j > 0 && CucumberJson.isBackground(elements.get(i - 1))
+                        && CucumberJson.isBackground(rerunElements.get(j - 1))) {
+                    elements.set(i - 1, rerunElements.get(j - 1));
+                }
+            }
+            feature.put("elements", elements);
+        }
+        Files.writeString(original, new Json().toJson(features), StandardCharsets.UTF_8);
+    }
+
+    private static int indexOfScenario(List<Object> elements, Object line) {
+        for (int i = 0; i < elements.size(); i++) {
+            Map<?, ?> e = (Map<?, ?>) elements.get(i);
+            if (!CucumberJson.isBackground(e) && String.valueOf(e.get("line")).equals(String.valueOf(line))) return i;
+        }
+        return -1;
+    }
+
+    private static Map<String, Object> summary(List<Map<String, Object>> reran) {
+        List<String> passed = new ArrayList<>();
+        List<String> failing = new ArrayList<>();
+        for (Map<String, Object> feature : reran) {
+            for (Object o : CucumberJson.elements(feature)) {
+                Map<?, ?> e = (Map<?, ?>) o;
+                if (CucumberJson.isBackground(e)) continue;
+                String id = feature.get("uri") + ":" + e.get("line") + " " + e.get("name");
+                (CucumberJson.failed(e) ? failing : passed).add(id);
+            }
+        }
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("passedOnRerun", passed);
+        out.put("stillFailing", failing);
+        return out;
+    }
+
+    // ---------- JUnit XML ----------
+
+    private static void mergeJunit(Path original, Path rerun, Path backupDir) throws Exception {
+        if (!Files.isRegularFile(original) || !Files.isRegularFile(rerun)) return;
+        Files.copy(original, backupDir.resolve("before-merge-TEST-results.xml"), StandardCopyOption.REPLACE_EXISTING);
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        Document doc = factory.newDocumentBuilder().parse(original.toFile());
+        Document rerunDoc = factory.newDocumentBuilder().parse(rerun.toFile());
+
+        List<Element> cases = testcases(doc);
+        for (Element reran : testcases(rerunDoc)) {
+            Element target = null;
+            for (Element c : cases) {
+                if (!sameCase(c, reran)) continue;
+                if (target == null || isFailure(c)) target = c; // same name twice: replace the failed one
+                if (isFailure(c)) break;
+            }
+            if (target == null) continue;
+            Node replacement = doc.importNode(reran, true);
+            target.getParentNode().replaceChild(replacement, target);
+            cases.set(cases.indexOf(target), (Element) replacement);
+        }
+        recount(doc.getDocumentElement(), cases);
+
+        var transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+        transformer.transform(new DOMSource(doc), new StreamResult(original.toFile()));
+    }
+
+    private static List<Element> testcases(Document doc) {
+        NodeList nodes = doc.getElementsByTagName("testcase");
+        List<Element> out = new ArrayList<>();
+        for (int i = 0; i < nodes.getLength(); i++) out.add((Element) nodes.item(i));
+        return out;
+    }
+
+    private static boolean sameCase(Element a, Element b) {
+        return a.getAttribute("classname").equals(b.getAttribute("classname")) && a.getAttribute("name").equals(b.getAttribute("name"));
+    }
+
+    private static boolean isFailure(Element testcase) {
+        return testcase.getElementsByTagName("failure").getLength() > 0 || testcase.getElementsByTagName("error").getLength() > 0;
+    }
+
+    // suite time is left alone: it is the original run's wall-clock time
+    private static void recount(Element suite, List<Element> cases) {
+        int failures = 0, errors = 0, skipped = 0;
+        for (Element c : cases) {
+            if (c.getElementsByTagName("failure").getLength() > 0) failures++;
+            else if (c.getElementsByTagName("error").getLength() > 0) errors++;
+            else if (c.getElementsByTagName("skipped").getLength() > 0) skipped++;
+        }
+        suite.setAttribute("tests", String.valueOf(cases.size()));
+        suite.setAttribute("failures", String.valueOf(failures));
+        suite.setAttribute("errors", String.valueOf(errors));
+        suite.setAttribute("skipped", String.valueOf(skipped));
+    }
+}
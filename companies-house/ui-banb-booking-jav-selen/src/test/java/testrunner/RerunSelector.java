@@ -0,0 +1,77 @@
+package testrunner;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import utils.ConfigLoader;
+import utils.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps only the scenarios listed in the rerun file (rerunFile, default target/rerun.txt, written by Cucumber's
+ * rerun plugin) when they are discovered under RerunTestRunner; CucumberTestRunner is never filtered.
+ * A line such as "classpath:features/BookARoom.feature:30:47" selects the scenarios on lines 30 and 47.
+ *
+ * Registered next to ShardSelector in META-INF/services/org.junit.platform.launcher.PostDiscoveryFilter.
+ */
+public class RerunSelector implements PostDiscoveryFilter {
+
+    private static Set<String> failed; // read once per JVM, before the rerun rewrites the file
+    private static volatile boolean active;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (!descriptor.isTest() || !isRerun(descriptor.getUniqueId())) return FilterResult.included("not a rerun");
+        if (failed().contains(ShardSelector.key(descriptor))) {
+            active = true;
+            return FilterResult.included("failed in the last run");
+        }
+        return FilterResult.excluded("passed in the last run");
+    }
+
+    /** True once a rerun scenario has been selected in this JVM. */
+    public static boolean isActive() {
+        return active;
+    }
+
+    static boolean isRerun(UniqueId id) {
+        return ShardSelector.isCucumber(id) && id.getSegments().stream()
+                .anyMatch(s -> "suite".equals(s.getType()) && RerunTestRunner.class.getName().equals(s.getValue()));
+    }
+
+    private static synchronized Set<String> failed() {
+        if (failed == null) {
+            Path file = Path.of(ConfigLoader.get().rerunFile());
+            failed = parse(file);
+            Log.info(() -> failed.isEmpty() ? "Rerun: nothing to rerun in " + file
+                    : "Rerun: " + failed.size() + " failed scenario(s) from " + file + " " + failed);
+        }
+        return failed;
+    }
+
+    // whitespace-separated "uri:line[:line...]" entries, keyed like ShardSelector ("features/X.feature:30")
+    static Set<String> parse(Path file) {
+        Set<String> keys = new TreeSet<>();
+        if (!Files.isRegularFile(file)) return keys;
+        try {
+            for (String entry : Files.readString(file).trim().split("\\s+")) {
+                int end = entry.indexOf(".feature:");
+                if (end < 0) continue;
+                String uri = ShardSelector.normalise(entry.substring(0, end + ".feature".length()));
+                for (String line : entry.substring(end + ".feature:".length()).split(":")) {
+                    if (!line.isBlank()) keys.add(uri + ":" + Integer.parseInt(line.trim()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable rerun file " + file, e);
+        }
+        return keys;
+    }
+}
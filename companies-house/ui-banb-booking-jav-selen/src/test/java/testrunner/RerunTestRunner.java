@@ -0,0 +1,27 @@
+package testrunner;
+
+import io.cucumber.junit.platform.engine.Constants;
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.SelectClasspathResource;
+import org.junit.platform.suite.api.Suite;
+
+/**
+ * Reruns only the scenarios that failed in the last CucumberTestRunner run (target/rerun.txt, see RerunSelector):
+ *
+ *   mvn test -Dtest=RerunTestRunner
+ *
+ * Reruns go one at a time on a single pooled browser that stays warm between them (-DrerunWarmBrowser=false
+ * starts a fresh one per scenario). Results are written under target/rerun/ and merged into target/cucumber.json and
+ * target/cucumber-reports/TEST-results.xml by RerunReportMerger; scenarios still failing are written back to
+ * target/rerun.txt, so the command can be repeated.
+ */
+@Suite
+@IncludeEngines("cucumber")
+@SelectClasspathResource("features")
+@ConfigurationParameter(key = Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, value = "false")
+@ConfigurationParameter(key = Constants.PLUGIN_PROPERTY_NAME,
+        value = "pretty, json:target/rerun/cucumber.json, junit:target/rerun/TEST-results.xml, rerun:target/rerun.txt, summary"
+)
+public class RerunTestRunner {
+}
@@ -0,0 +1,220 @@
+package testrunner;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import utils.ConfigLoader;
+import utils.Log;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Splits the Cucumber scenarios across CI nodes: -DshardCount=N -DshardIndex=i (1..N) keeps only this node's share.
+ *
+ * Every node discovers the same scenarios and, when shardHistory is set, reads the same history (cucumber.json files
+ * of an earlier run restored from shared storage), so all of them compute the same plan without talking to each other:
+ * scenarios sorted longest first and each one given to the shard with the least work so far. Scenarios with no history
+ * count as the mean of the known ones; with no history at all the shards get equal scenario counts. The plan carries a
+ * fingerprint of the history files and the discovered scenarios so CI can check that all nodes agreed.
+ * With shardCount=1 (the default) nothing is filtered.
+ *
+ * Registered as a JUnit Platform post-discovery filter in
+ * META-INF/services/org.junit.platform.launcher.PostDiscoveryFilter; plugins.ShardReportPlugin writes the shard's report.
+ */
+public class ShardSelector implements PostDiscoveryFilter {
+
+    private static final long DEFAULT_ESTIMATE_NANOS = 30_000_000_000L; // no history at all: count scenarios instead
+
+    private static volatile Plan plan;
+    private static List<String> plannedKeys; // scenarios the plan was computed for
+
+    /**
+     * One node's share of the run. historyFiles maps every history file read to the SHA-256 of its content,
+     * scenariosSha256 covers the discovered scenario keys and fingerprint both: equal on every node of one run.
+     */
+    public record Plan(int shardIndex, int shardCount, Set<String> scenarios, long[] estimatedNanos,
+                       int withHistory, int total, Map<String, String> historyFiles, String scenariosSha256,
+                       String fingerprint) {}
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (!descriptor.isTest() || !isCucumber(descriptor.getUniqueId())) return FilterResult.included("not a scenario");
+        if (RerunSelector.isRerun(descriptor.getUniqueId())) return FilterResult.included("rerun file is already per shard");
+        ConfigLoader cfg = ConfigLoader.get();
+        if (cfg.shardCount() <= 1) return FilterResult.included("sharding off");
+
+        Plan p = plan(descriptor, cfg);
+        return p.scenarios().contains(key(descriptor))
+                ? FilterResult.included("shard " + p.shardIndex() + "/" + p.shardCount())
+                : FilterResult.excluded("runs on another shard");
+    }
+
+    /** Plan of the current run, or null when sharding is off or nothing has been discovered yet. */
+    public static Plan currentPlan() {
+        return plan;
+    }
+
+    // computed once per discovery, from the whole cucumber tree the first scenario belongs to
+    private static synchronized Plan plan(TestDescriptor scenario, ConfigLoader cfg) {
+        TestDescriptor root = scenario;
+        while (root.getParent().isPresent() && isCucumber(root.getParent().get().getUniqueId())) {
+            root = root.getParent().get();
+        }
+        List<String> keys = root.getDescendants().stream()
+                .filter(TestDescriptor::isTest).map(ShardSelector::key).distinct().sorted().toList();
+        // the launcher removes excluded scenarios while it is still filtering, and surefire discovers twice:
+        // either way the tree is (a part of) the one already planned
+        if (plan != null && plannedKeys.containsAll(keys)) return plan;
+        plan = plan(keys, cfg.shardIndex(), cfg.shardCount(), cfg.shardHistory());
+        plannedKeys = keys;
+        Plan p = plan;
+        Log.info(() -> "Shard " + p.shardIndex() + "/" + p.shardCount() + ": " + p.scenarios().size() + " of " + p.total()
+                + " scenarios, estimated " + p.estimatedNanos()[p.shardIndex() - 1] / 1_000_000 + " ms ("
+                + p.withHistory() + " with history)");
+        return plan;
+    }
+
+    static Plan plan(List<String> keys, int shardIndex, int shardCount, List<String> historyPatterns) {
+        if (shardIndex < 1 || shardIndex > shardCount) {
+            throw new IllegalArgumentException("shardIndex must be 1.." + shardCount + ", not " + shardIndex);
+        }
+        Map<String, String> files = new LinkedHashMap<>();
+        Map<String, Long> history = history(historyPatterns, files);
+        if (!historyPatterns.isEmpty() && files.isEmpty()) {
+            Log.warn(() -> "Shard history: no readable file matches " + historyPatterns + ", balancing by scenario count");
+        }
+
+        long known = 0;
+        int withHistory = 0;
+        for (String k : keys) {
+            Long n = history.get(k);
+            if (n != null) { known += n; withHistory++; }
+        }
+        long fallback = withHistory == 0 ? DEFAULT_ESTIMATE_NANOS : known / withHistory;
+
+        // longest first, then by key so every node sorts ties the same way
+        List<String> order = new ArrayList<>(keys);
+        order.sort(Comparator.comparingLong((String k) -> history.getOrDefault(k, fallback)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        long[] load = new long[shardCount];
+        Set<String> mine = new TreeSet<>();
+        for (String k : order) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) if (load[i] < load[lightest]) lightest = i;
+            load[lightest] += history.getOrDefault(k, fallback);
+            if (lightest == shardIndex - 1) mine.add(k);
+        }
+        String scenarios = sha256(String.join("\n", keys));
+        String fingerprint = sha256(scenarios + "\n" + String.join("\n", files.values()));
+        return new Plan(shardIndex, shardCount, mine, load, withHistory, keys.size(), files, scenarios, fingerprint);
+    }
+
+    // mean duration per scenario (steps + hooks) over all matching cucumber.json files
+    private static Map<String, Long> history(List<String> patterns, Map<String, String> filesRead) {
+        Map<String, long[]> sums = new HashMap<>(); // key -> {total nanos, runs}
+        for (Path file : expand(patterns)) {
+            try {
+                byte[] content = Files.readAllBytes(file);
+                for (Map<String, Object> feature : CucumberJson.parse(new String(content, StandardCharsets.UTF_8))) {
+                    String uri = normalise(String.valueOf(feature.get("uri")));
+                    long background = 0;
+                    for (Object o : CucumberJson.elements(feature)) {
+                        Map<?, ?> element = (Map<?, ?>) o;
+                        long nanos = CucumberJson.duration(element);
+                        if (CucumberJson.isBackground(element)) { background = nanos; continue; }
+                        long total = nanos + background;
+                        background = 0;
+                        if (total < 1_000_000) continue; // dry run: nothing was executed
+                        long[] s = sums.computeIfAbsent(uri + ":" + ((Number) element.get("line")).intValue(), k -> new long[2]);
+                        s[0] += total;
+                        s[1]++;
+                    }
+                }
+                filesRead.put(file.toString(), sha256(content));
+            } catch (IOException | RuntimeException e) {
+                Log.warn(() -> "Shard history: skipping unreadable " + file + " (" + e.getMessage() + ")");
+            }
+        }
+        Map<String, Long> means = new LinkedHashMap<>();
+        sums.forEach((k, s) -> means.put(k, s[0] / s[1]));
+        return means;
+    }
+
+    private static List<Path> expand(List<String> patterns) {
+        List<Path> files = new ArrayList<>();
+        for (String pattern : patterns) {
+            Path path = Path.of(pattern);
+            String name = path.getFileName().toString();
+            if (!name.contains("*")) {
+                if (Files.isRegularFile(path)) files.add(path);
+                continue;
+            }
+            Path dir = path.getParent() == null ? Path.of(".") : path.getParent();
+            if (!Files.isDirectory(dir)) continue;
+            try (DirectoryStream<Path> matches = Files.newDirectoryStream(dir, name)) {
+                List<Path> sorted = new ArrayList<>();
+                matches.forEach(sorted::add);
+                sorted.sort(Comparator.naturalOrder());
+                files.addAll(sorted);
+            } catch (IOException e) {
+                Log.warn(() -> "Shard history: cannot list " + dir + " (" + e.getMessage() + ")");
+            }
+        }
+        return files;
+    }
+
+    private static String sha256(String text) {
+        return sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static boolean isCucumber(UniqueId id) {
+        return id.getSegments().stream().anyMatch(s -> "engine".equals(s.getType()) && "cucumber".equals(s.getValue()));
+    }
+
+    // "features/BookARoom.feature:30", the same form as a cucumber.json uri plus element line
+    static String key(TestDescriptor d) {
+        TestSource source = d.getSource().orElse(null);
+        if (source instanceof ClasspathResourceSource c) {
+            return c.getClasspathResourceName() + ":" + c.getPosition().map(FilePosition::getLine).orElse(0);
+        }
+        if (source instanceof FileSource f) {
+            return normalise(f.getFile().toURI().toString()) + ":" + f.getPosition().map(FilePosition::getLine).orElse(0);
+        }
+        return d.getUniqueId().toString();
+    }
+
+    static String normalise(String uri) {
+        String u = uri.replaceFirst("^classpath:/?", "").replaceFirst("^file:", "");
+        int features = u.indexOf("features/"); // file URIs: absolute on one node, relative in the report
+        return features > 0 ? u.substring(features) : u;
+    }
+}
@@ -1,46 +1,100 @@
 package utils;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import pages.HomePage;
 
 import java.net.URL;
 import java.time.Duration;
-import java.util.Locale;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
 
 public class BaseTest {
-    public static WebDriver driver;
-    public static WaitUtils wait;
+    // The session lives in DriverManager (one per worker thread) so scenarios can run in parallel.
 
     // timeouts & base url from your existing ConfigLoader
     private static final String BASE_URL = ConfigLoader.get().baseUrl();
-    private static final int IMPLICIT_WAIT_SEC = ConfigLoader.get().implicitWaitSeconds();
+    private static final int IMPLICIT_WAIT_SEC = ConfigLoader.get().effectiveImplicitWaitSeconds(); // 0 in explicit wait mode
     private static final int PAGELOAD_TIMEOUT_SEC = ConfigLoader.get().pageLoadTimeoutSeconds();
+    // eager by default: get() returns at DOMContentLoaded and page objects wait for their own readiness signal
+    private static final PageLoadStrategy PAGE_LOAD_STRATEGY = pageLoadStrategy(ConfigLoader.get().pageLoadStrategy());
 
     // read once from JVM/ENV
-    private static final String BROWSER =
-            firstNonBlank(System.getProperty("browser"), System.getenv("BROWSER"), "chrome")
-                    .toLowerCase(Locale.ROOT);
+    private static final String BROWSER = ConfigLoader.get().browser();
     private static final boolean HEADLESS =
             Boolean.parseBoolean(firstNonBlank(System.getProperty("headless"),
                     System.getenv("HEADLESS"), "false"));
-    private static final String REMOTE_URL =
-            firstNonBlank(System.getProperty("remoteUrl"), System.getenv("REMOTE_URL"), "");
+    private static final String REMOTE_URL = ConfigLoader.get().remoteUrl();
+
+    // warm sessions shared by all worker threads; browsers are only launched when the pool runs dry.
+    // On a remote grid the pool holds one session per grid slot (GridCapacity), so a lease waits for a free slot.
+    private static final DriverPool POOL = new DriverPool(BaseTest::createDriver,
+            GridCapacity.slots(), Duration.ofSeconds(ConfigLoader.get().poolLeaseTimeoutSeconds()));
+
+    public static WebDriver getDriver() {
+        return DriverManager.getDriver();
+    }
+
+    public static WaitUtils getWait() {
+        return DriverManager.getWait();
+    }
 
     public static void setup() {
-        if (driver != null) return;
+        if (DriverManager.hasDriver()) return;
+        DriverManager.register(POOL.lease());
+    }
+
+    public static void openHome() {
+        setup();
+        Log.info(() -> "Opening: " + BASE_URL);
+        PageReadiness.navigate(getDriver(), BASE_URL, "home", () -> new HomePage(getDriver()).waitUntilReady());
+    }
 
-        System.out.println("🔧 Starting WebDriver -> browser=" + BROWSER +
-                ", headless=" + HEADLESS + (REMOTE_URL.isBlank() ? "" : ", remote=" + REMOTE_URL));
+    /** Returns this thread's session to the pool (reset, not quit). */
+    public static void tearDown() {
+        tearDown(true);
+    }
 
+    /** keepWarm=false quits the session instead, so the next scenario starts a fresh browser. */
+    public static void tearDown(boolean keepWarm) {
+        WebDriver driver = DriverManager.unregister();
+        if (driver != null) {
+            PageReadiness.settle(driver); // last page's full-load time, before the reset navigates away
+            if (keepWarm) {
+                Log.info("Returning browser to pool...");
+                if (REMOTE_URL.isBlank()) POOL.release(driver);
+                else POOL.releaseAsync(driver); // grid round trips of the reset happen off the worker thread
+            } else {
+                Log.info("Quitting browser (fresh session for the next scenario)...");
+                POOL.evict(driver);
+            }
+        }
+    }
+
+    private static WebDriver createDriver() {
+        Log.info(() -> "🔧 Starting WebDriver -> browser=" + BROWSER +
+                ", headless=" + HEADLESS + ", pageLoadStrategy=" + PAGE_LOAD_STRATEGY + (REMOTE_URL.isBlank() ? "" : ", remote=" + REMOTE_URL) +
+                ", thread=" + Thread.currentThread().getName());
+
+        WebDriver driver;
         switch (BROWSER) {
             case "firefox" -> driver = createFirefox();
             case "edge"    -> driver = createEdge();
@@ -51,58 +105,89 @@ public class BaseTest {
         driver.manage().window().maximize();
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(IMPLICIT_WAIT_SEC));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(PAGELOAD_TIMEOUT_SEC));
-        wait = new WaitUtils(driver);
-
-        Runtime.getRuntime().addShutdownHook(new Thread(BaseTest::tearDown));
-        System.out.println("WebDriver ready.");
-    }
 
-    public static void openHome() {
-        if (driver == null) setup();
-        System.out.println("Opening: " + BASE_URL);
-        driver.get(BASE_URL);
-    }
-
-    public static void tearDown() {
-        System.out.println("Closing browser...");
-        if (driver != null) {
-            try { driver.quit(); } finally { driver = null; }
+        // DevTools/BiDi hooks go on the raw session, before it is wrapped
+        List<WebDriverListener> listeners = new ArrayList<>();
+        WebDriverListener blocker = ResourceBlocker.install(driver, BROWSER);
+        if (blocker != null) listeners.add(blocker);
+        if (ConfigLoader.get().commandTiming()) {
+            // every command is timed and attributed to the running step (see CommandLatencyPlugin)
+            listeners.add(new CommandTimingListener());
+        }
+        if (!listeners.isEmpty()) {
+            driver = new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
         }
+        Log.info("WebDriver ready.");
+        return driver;
     }
 
     // ---------- per-browser creators ----------
 
+    // Local drivers come from DriverBinaryCache: a manifest lookup per launch, WebDriverManager only on a cold cache.
+
     private static WebDriver createChrome() {
         ChromeOptions opts = new ChromeOptions();
-        if (HEADLESS) opts.addArguments("--headless=new", "--window-size=1920,1080");
+        opts.setPageLoadStrategy(PAGE_LOAD_STRATEGY);
+        opts.setCapability(ChromeOptions.LOGGING_PREFS, browserLog()); // console for FailureArtifacts
+        if (!REMOTE_URL.isBlank()) {
+            chromeArgs(opts, false);
+            return remote(opts);
+        }
+        DriverBinaryCache.Binaries bin = DriverBinaryCache.resolve("chrome");
+        boolean shell = bin.browser() != null && DriverBinaryCache.isHeadlessShell(bin.browser());
+        if (bin.browser() != null) opts.setBinary(bin.browser().toFile());
+        chromeArgs(opts, shell);
+        long t0 = System.nanoTime();
+        WebDriver driver = new ChromeDriver(new ChromeDriverService.Builder()
+                .usingDriverExecutable(bin.driver().toFile()).build(), opts);
+        DriverBinaryCache.recordLaunch("chrome", bin, System.nanoTime() - t0);
+        return driver;
+    }
+
+    // chrome-headless-shell is headless by construction; it only needs the window size
+    private static void chromeArgs(ChromeOptions opts, boolean headlessShell) {
+        if (headlessShell) opts.addArguments("--window-size=1920,1080");
+        else if (HEADLESS) opts.addArguments("--headless=new", "--window-size=1920,1080");
         opts.addArguments("--no-sandbox", "--disable-dev-shm-usage");
-        if (!REMOTE_URL.isBlank()) return remote(opts);
-        WebDriverManager.chromedriver().setup();
-        return new ChromeDriver(opts);
     }
 
     private static WebDriver createFirefox() {
         FirefoxOptions opts = new FirefoxOptions();
+        opts.setPageLoadStrategy(PAGE_LOAD_STRATEGY);
         if (HEADLESS) opts.addArguments("-headless");
+        if (!"off".equals(ConfigLoader.get().resourceBlocking())) opts.setCapability("webSocketUrl", true); // BiDi for ResourceBlocker
         if (!REMOTE_URL.isBlank()) return remote(opts);
-        WebDriverManager.firefoxdriver().setup();
-        return new FirefoxDriver(opts);
+        DriverBinaryCache.Binaries bin = DriverBinaryCache.resolve("firefox");
+        if (bin.browser() != null) opts.setBinary(bin.browser());
+        long t0 = System.nanoTime();
+        WebDriver driver = new FirefoxDriver(new GeckoDriverService.Builder()
+                .usingDriverExecutable(bin.driver().toFile()).build(), opts);
+        DriverBinaryCache.recordLaunch("firefox", bin, System.nanoTime() - t0);
+        return driver;
     }
 
     private static WebDriver createEdge() {
         EdgeOptions opts = new EdgeOptions();
+        opts.setPageLoadStrategy(PAGE_LOAD_STRATEGY);
+        opts.setCapability(EdgeOptions.LOGGING_PREFS, browserLog());
         if (HEADLESS) opts.addArguments("--headless=new", "--window-size=1920,1080");
         if (!REMOTE_URL.isBlank()) return remote(opts);
-        WebDriverManager.edgedriver().setup();
-        return new EdgeDriver(opts);
+        DriverBinaryCache.Binaries bin = DriverBinaryCache.resolve("edge");
+        if (bin.browser() != null) opts.setBinary(bin.browser().toFile());
+        long t0 = System.nanoTime();
+        WebDriver driver = new EdgeDriver(new EdgeDriverService.Builder()
+                .usingDriverExecutable(bin.driver().toFile()).build(), opts);
+        DriverBinaryCache.recordLaunch("edge", bin, System.nanoTime() - t0);
+        return driver;
     }
 
     private static WebDriver createSafari() {
         // Safari doesn't support headless. Ensure:
         // 1) macOS only  2) Safari > Preferences > Advanced > "Show Develop menu"
         // 3) In Terminal: `safaridriver --enable` (once)
-        if (HEADLESS) System.out.println("⚠️ Safari headless not supported; ignoring.");
+        if (HEADLESS) Log.warn("⚠️ Safari headless not supported; ignoring.");
         SafariOptions opts = new SafariOptions();
+        opts.setPageLoadStrategy(PAGE_LOAD_STRATEGY);
         if (!REMOTE_URL.isBlank()) return remote(opts); // works only with a macOS Safari node
         return new SafariDriver(opts);
     }
@@ -117,6 +202,20 @@ public class BaseTest {
         }
     }
 
+    private static LoggingPreferences browserLog() {
+        LoggingPreferences prefs = new LoggingPreferences();
+        prefs.enable(LogType.BROWSER, Level.ALL);
+        return prefs;
+    }
+
+    private static PageLoadStrategy pageLoadStrategy(String value) {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value);
+        if (strategy == null) {
+            throw new IllegalArgumentException("pageLoadStrategy must be normal, eager or none, not '" + value + "'");
+        }
+        return strategy;
+    }
+
     private static String firstNonBlank(String... v) {
         for (String s : v) if (s != null && !s.isBlank()) return s.trim();
         return "";
@@ -0,0 +1,109 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Times every call going through the EventFiringDecorator that BaseTest wraps around each session
+ * and hands it to CommandLatency as "Interface.method" (e.g. WebElement.click) plus a locator:
+ * the By for lookups, the By the element was found with for element calls, the URL for navigation
+ * and the start of the script for executeScript.
+ */
+public class CommandTimingListener implements WebDriverListener {
+
+    // elements remember the locator they were found with, so click/sendKeys can be grouped by locator.
+    // Lookup results arrive decorated while element calls see the original, so keys are always unwrapped.
+    private static final Map<WebElement, String> ELEMENT_LOCATORS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // one stack per thread: a decorated call can trigger another one (e.g. a wait condition doing lookups)
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!tracked(method)) return;
+        starts.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method, args, "ok");
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method, args, e.getTargetException().getClass().getSimpleName());
+    }
+
+    @Override
+    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+        ELEMENT_LOCATORS.put(unwrap(result), locator.toString());
+    }
+
+    @Override
+    public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+        for (WebElement e : result) ELEMENT_LOCATORS.put(unwrap(e), locator.toString());
+    }
+
+    @Override
+    public void afterFindElement(WebElement element, By locator, WebElement result) {
+        ELEMENT_LOCATORS.put(unwrap(result), locatorOf(element) + " >> " + locator);
+    }
+
+    @Override
+    public void afterFindElements(WebElement element, By locator, List<WebElement> result) {
+        String chained = locatorOf(element) + " >> " + locator;
+        for (WebElement e : result) ELEMENT_LOCATORS.put(unwrap(e), chained);
+    }
+
+    private void finish(Object target, Method method, Object[] args, String outcome) {
+        if (!tracked(method)) return;
+        Long t0 = starts.get().poll();
+        if (t0 == null) return;
+        CommandLatency.record(method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                locatorOf(target, args), System.nanoTime() - t0, outcome);
+    }
+
+    private static boolean tracked(Method method) {
+        return method.getDeclaringClass() != Object.class;
+    }
+
+    private static String locatorOf(Object target, Object[] args) {
+        if (args != null && args.length > 0) {
+            if (args[0] instanceof By by) return by.toString();
+            if (args[0] instanceof String s && (s.startsWith("http") || s.startsWith("about:"))) return s;
+            if (args[0] instanceof String script && args.length == 2 && args[1] instanceof Object[]) {
+                return "script: " + abbreviate(script);
+            }
+        }
+        if (target instanceof WebElement element) return locatorOf(element);
+        return null;
+    }
+
+    private static String locatorOf(WebElement element) {
+        return ELEMENT_LOCATORS.getOrDefault(unwrap(element), "(element)");
+    }
+
+    private static WebElement unwrap(WebElement element) {
+        while (element instanceof WrapsElement wrapper && wrapper.getWrappedElement() != element) {
+            element = wrapper.getWrappedElement();
+        }
+        return element;
+    }
+
+    private static String abbreviate(String script) {
+        String oneLine = script.replaceAll("\\s+", " ").trim();
+        return oneLine.length() <= 48 ? oneLine : oneLine.substring(0, 48) + "...";
+    }
+}
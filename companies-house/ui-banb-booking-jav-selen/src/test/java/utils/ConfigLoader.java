@@ -1,11 +1,16 @@
 package utils;
 
+import stub.ShadyMeadowsStub;
+
 import java.io.InputStream;
 import java.util.Properties;
 
 public final class ConfigLoader {
 
-    private static ConfigLoader INSTANCE;
+    // holder idiom: lazy and safe when parallel scenarios hit get() at the same time
+    private static final class Holder {
+        private static final ConfigLoader INSTANCE = new ConfigLoader();
+    }
     private final Properties props = new Properties();
 
     private ConfigLoader() {
@@ -15,19 +20,57 @@ public final class ConfigLoader {
     }
 
     public static ConfigLoader get() {
-        if (INSTANCE == null) INSTANCE = new ConfigLoader();
-        return INSTANCE;
+        return Holder.INSTANCE;
     }
 
+    /**
+     * Explicit baseUrl (-DbaseUrl / BASE_URL) always wins. Otherwise profile=offline points the
+     * suite at the embedded stub (started on first call) and any other profile uses config.properties.
+     */
     public String baseUrl() {
+        String explicit = firstNonBlank(System.getProperty("baseUrl"), System.getenv("BASE_URL"));
+        if (!explicit.isEmpty()) return explicit;
+        if (isOffline()) return ShadyMeadowsStub.ensureStarted(stubPort(), stubLatencyMs()).baseUrl();
         return firstNonBlank(
-                System.getProperty("baseUrl"),
-                System.getenv("BASE_URL"),
                 props.getProperty("baseUrl"),
                 "https://automationintesting.online"
         );
     }
 
+    /** "online" (default): the public demo site; "offline": the in-process Shady Meadows stub. */
+    public String profile() {
+        return firstNonBlank(
+                System.getProperty("profile"),
+                System.getenv("PROFILE"),
+                props.getProperty("profile"),
+                "online"
+        ).toLowerCase(java.util.Locale.ROOT);
+    }
+
+    public boolean isOffline() {
+        return "offline".equals(profile());
+    }
+
+    /** Artificial delay the stub adds to every response, to emulate network latency. */
+    public long stubLatencyMs() {
+        return Long.parseLong(firstNonBlank(
+                System.getProperty("stubLatencyMs"),
+                System.getenv("STUB_LATENCY_MS"),
+                props.getProperty("stubLatencyMs"),
+                "0"
+        ));
+    }
+
+    /** Stub listen port; 0 picks a free one. */
+    public int stubPort() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("stubPort"),
+                System.getenv("STUB_PORT"),
+                props.getProperty("stubPort"),
+                "0"
+        ));
+    }
+
     public int implicitWaitSeconds() {
         return Integer.parseInt(firstNonBlank(
                 System.getProperty("implicitWait"),
@@ -46,6 +89,394 @@ public final class ConfigLoader {
         ));
     }
 
+    /**
+     * WebDriver pageLoadStrategy: "eager" (default) returns from get() at DOMContentLoaded and lets the page
+     * object's readiness probe decide (see PageReadiness); "none" returns at once; "normal" waits for the load event.
+     */
+    public String pageLoadStrategy() {
+        return firstNonBlank(
+                System.getProperty("pageLoadStrategy"),
+                System.getenv("PAGE_LOAD_STRATEGY"),
+                props.getProperty("pageLoadStrategy"),
+                "eager"
+        ).toLowerCase(java.util.Locale.ROOT);
+    }
+
+    /**
+     * "explicit" (default): implicit wait is 0 and only WaitUtils waits, so presence probes return at once.
+     * "implicit": legacy mode, applies implicitWait to every lookup (WaitUtils logs the double waiting).
+     */
+    public String waitMode() {
+        return firstNonBlank(
+                System.getProperty("waitMode"),
+                System.getenv("WAIT_MODE"),
+                props.getProperty("waitMode"),
+                "explicit"
+        ).toLowerCase(java.util.Locale.ROOT);
+    }
+
+    /** Implicit wait actually applied to new sessions, honouring waitMode. */
+    public int effectiveImplicitWaitSeconds() {
+        return "implicit".equals(waitMode()) ? implicitWaitSeconds() : 0;
+    }
+
+    /** Max number of warm browser sessions kept by the driver pool (defaults to the parallel worker count). */
+    public int poolSize() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("poolSize"),
+                System.getenv("POOL_SIZE"),
+                props.getProperty("poolSize"),
+                "4"
+        ));
+    }
+
+    public int poolLeaseTimeoutSeconds() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("poolLeaseTimeout"),
+                System.getenv("POOL_LEASE_TIMEOUT"),
+                props.getProperty("poolLeaseTimeout"),
+                "120"
+        ));
+    }
+
+    /**
+     * true (default): booking-page scenarios deep-link to /reservation/{id}?checkin=..&checkout=..
+     * instead of replaying the home page journey. The @smoke scenario always takes the full UI path.
+     */
+    public boolean fastPath() {
+        return Boolean.parseBoolean(firstNonBlank(
+                System.getProperty("fastPath"),
+                System.getenv("FAST_PATH"),
+                props.getProperty("fastPath"),
+                "true"
+        ));
+    }
+
+    /** Room id used by the fast path deep link. */
+    public int fastPathRoomId() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("fastPathRoomId"),
+                System.getenv("FAST_PATH_ROOM_ID"),
+                props.getProperty("fastPathRoomId"),
+                "1"
+        ));
+    }
+
+    /** Wraps each session in a listener that times every WebDriver command (report: target/webdriver-latency.json). */
+    public boolean commandTiming() {
+        return Boolean.parseBoolean(firstNonBlank(
+                System.getProperty("commandTiming"),
+                System.getenv("COMMAND_TIMING"),
+                props.getProperty("commandTiming"),
+                "true"
+        ));
+    }
+
+    /** Rows in the "slowest steps" table StepTimingPlugin prints at the end of the run. */
+    public int stepTimingTop() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("stepTimingTop"),
+                System.getenv("STEP_TIMING_TOP"),
+                props.getProperty("stepTimingTop"),
+                "15"
+        ));
+    }
+
+    /** Machine-wide driver binary cache holding manifest.properties (see DriverBinaryCache). */
+    public String driverCacheDir() {
+        return firstNonBlank(
+                System.getProperty("driverCacheDir"),
+                System.getenv("DRIVER_CACHE_DIR"),
+                props.getProperty("driverCacheDir"),
+                System.getProperty("user.home") + "/.cache/banb-drivers"
+        );
+    }
+
+    /** true: never run WebDriverManager; a launch fails fast if the manifest has no driver for the browser. */
+    public boolean driverOffline() {
+        return Boolean.parseBoolean(firstNonBlank(
+                System.getProperty("driverOffline"),
+                System.getenv("DRIVER_OFFLINE"),
+                props.getProperty("driverOffline"),
+                "false"
+        ));
+    }
+
+    /** Pinned driver version for chrome/firefox/edge (chromeDriverVersion / CHROME_DRIVER_VERSION ...); empty = keep what the manifest has. */
+    public String driverVersion(String browser) {
+        return firstNonBlank(
+                System.getProperty(browser + "DriverVersion"),
+                System.getenv(browser.toUpperCase(java.util.Locale.ROOT) + "_DRIVER_VERSION"),
+                props.getProperty(browser + "DriverVersion")
+        );
+    }
+
+    /** Browser executable override (chromeBinary / CHROME_BINARY ...), e.g. a chrome-headless-shell build; empty = installed browser. */
+    public String browserBinary(String browser) {
+        return firstNonBlank(
+                System.getProperty(browser + "Binary"),
+                System.getenv(browser.toUpperCase(java.util.Locale.ROOT) + "_BINARY"),
+                props.getProperty(browser + "Binary")
+        );
+    }
+
+    /** off (default), blocklist (block resourceBlocklist) or allowlist (block all but resourceAllowlist); see ResourceBlocker. */
+    public String resourceBlocking() {
+        return firstNonBlank(
+                System.getProperty("resourceBlocking"),
+                System.getenv("RESOURCE_BLOCKING"),
+                props.getProperty("resourceBlocking"),
+                "off"
+        ).toLowerCase(java.util.Locale.ROOT);
+    }
+
+    /** Comma-separated URL globs ('*' = anything) blocked in blocklist mode: fonts, images and analytics by default. */
+    public java.util.List<String> resourceBlocklist() {
+        return csv(firstNonBlank(
+                System.getProperty("resourceBlocklist"),
+                System.getenv("RESOURCE_BLOCKLIST"),
+                props.getProperty("resourceBlocklist"),
+                "*.woff*,*.ttf*,*.png*,*.jpg*,*.jpeg*,*.gif*,*.svg*,*.webp*,"
+                        + "*fonts.googleapis.com*,*fonts.gstatic.com*,*googletagmanager.com*,*google-analytics.com*"
+        ));
+    }
+
+    /** Comma-separated URL globs allowed in allowlist mode; defaults to everything under baseUrl. */
+    public java.util.List<String> resourceAllowlist() {
+        return csv(firstNonBlank(
+                System.getProperty("resourceAllowlist"),
+                System.getenv("RESOURCE_ALLOWLIST"),
+                props.getProperty("resourceAllowlist"),
+                baseUrl().replaceAll("/+$", "") + "/*"
+        ));
+    }
+
+    /** Every Nth driver.get() of a session runs unblocked as a baseline for the time-saved estimate (0 = never). */
+    public int resourceBlockingControlEvery() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("resourceBlockingControlEvery"),
+                System.getenv("RESOURCE_BLOCKING_CONTROL_EVERY"),
+                props.getProperty("resourceBlockingControlEvery"),
+                "10"
+        ));
+    }
+
+    /** Number of CI nodes the scenarios are split across (1 = no sharding); see testrunner.ShardSelector. */
+    public int shardCount() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("shardCount"),
+                System.getenv("SHARD_COUNT"),
+                props.getProperty("shardCount"),
+                "1"
+        ));
+    }
+
+    /** Which shard this node runs, 1..shardCount. */
+    public int shardIndex() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("shardIndex"),
+                System.getenv("SHARD_INDEX"),
+                props.getProperty("shardIndex"),
+                "1"
+        ));
+    }
+
+    /**
+     * Comma-separated cucumber.json files from an earlier run ('*' allowed in the file name) used to balance shards.
+     * Empty by default: every node must read the same files, so they have to be restored from a shared location, never
+     * taken from this run's own target directory. Without history shards are balanced by scenario count.
+     */
+    public java.util.List<String> shardHistory() {
+        return csv(firstNonBlank(
+                System.getProperty("shardHistory"),
+                System.getenv("SHARD_HISTORY"),
+                props.getProperty("shardHistory"),
+                ""
+        ));
+    }
+
+    /** Failed-scenario locations written by the rerun plugin and read by testrunner.RerunTestRunner. */
+    public String rerunFile() {
+        return firstNonBlank(
+                System.getProperty("rerunFile"),
+                System.getenv("RERUN_FILE"),
+                props.getProperty("rerunFile"),
+                "target/rerun.txt"
+        );
+    }
+
+    /** true (default): reruns share one warm pooled browser; false: every rerun scenario gets a fresh one. */
+    public boolean rerunWarmBrowser() {
+        return Boolean.parseBoolean(firstNonBlank(
+                System.getProperty("rerunWarmBrowser"),
+                System.getenv("RERUN_WARM_BROWSER"),
+                props.getProperty("rerunWarmBrowser"),
+                "true"
+        ));
+    }
+
+    /** chrome (default), firefox, edge or safari. */
+    public String browser() {
+        return firstNonBlank(
+                System.getProperty("browser"),
+                System.getenv("BROWSER"),
+                props.getProperty("browser"),
+                "chrome"
+        ).toLowerCase(java.util.Locale.ROOT);
+    }
+
+    /** Selenium Grid / Selenoid endpoint; empty (default) runs local browsers. */
+    public String remoteUrl() {
+        return firstNonBlank(
+                System.getProperty("remoteUrl"),
+                System.getenv("REMOTE_URL"),
+                props.getProperty("remoteUrl")
+        );
+    }
+
+    /** Grid slots this run may use: "auto" (default) reads the grid's /status, or a fixed number; see GridCapacity. */
+    public String gridSlots() {
+        return firstNonBlank(
+                System.getProperty("gridSlots"),
+                System.getenv("GRID_SLOTS"),
+                props.getProperty("gridSlots"),
+                "auto"
+        );
+    }
+
+    /** Upper bound on concurrent grid sessions from this JVM, whatever the grid offers. */
+    public int gridMaxParallel() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("gridMaxParallel"),
+                System.getenv("GRID_MAX_PARALLEL"),
+                props.getProperty("gridMaxParallel"),
+                "32"
+        ));
+    }
+
+    /** Concurrent browser users in the booking load run (testrunner.BookingLoadRunner). */
+    public int loadUsers() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("loadUsers"),
+                System.getenv("LOAD_USERS"),
+                props.getProperty("loadUsers"),
+                "4"
+        ));
+    }
+
+    /** How long the load run keeps starting journeys; ignored when loadIterations is set. */
+    public int loadDurationSeconds() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("loadDurationSeconds"),
+                System.getenv("LOAD_DURATION_SECONDS"),
+                props.getProperty("loadDurationSeconds"),
+                "60"
+        ));
+    }
+
+    /** Journeys per user; 0 (default) runs for loadDurationSeconds instead. */
+    public int loadIterations() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("loadIterations"),
+                System.getenv("LOAD_ITERATIONS"),
+                props.getProperty("loadIterations"),
+                "0"
+        ));
+    }
+
+    /** Users start evenly spread over this many seconds, so browsers don't all launch at once. */
+    public int loadRampUpSeconds() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("loadRampUpSeconds"),
+                System.getenv("LOAD_RAMP_UP_SECONDS"),
+                props.getProperty("loadRampUpSeconds"),
+                "0"
+        ));
+    }
+
+    /** First check-in of the load run, in days from today; every journey books the next free night after it. */
+    public int loadDateOffsetDays() {
+        return Integer.parseInt(firstNonBlank(
+                System.getProperty("loadDateOffsetDays"),
+                System.getenv("LOAD_DATE_OFFSET_DAYS"),
+                props.getProperty("loadDateOffsetDays"),
+                "30"
+        ));
+    }
+
+    /** Implementation behind @flows scenarios: "ui" (default, page objects in a browser) or "http" (API calls, no browser). */
+    public String flows() {
+        return firstNonBlank(
+                System.getProperty("flows"),
+                System.getenv("FLOWS"),
+                props.getProperty("flows"),
+                "ui"
+        ).toLowerCase(java.util.Locale.ROOT);
+    }
+
+    /** true (default): failed scenarios leave a screenshot, DOM and console log in failureArtifactsDir; see FailureArtifacts. */
+    public boolean failureArtifacts() {
+        return Boolean.parseBoolean(firstNonBlank(
+                System.getProperty("failureArtifacts"),
+                System.getenv("FAILURE_ARTIFACTS"),
+                props.getProperty("failureArtifacts"),
+                "true"
+        ));
+    }
+
+    public String failureArtifactsDir() {
+        return firstNonBlank(
+                System.getProperty("failureArtifactsDir"),
+                System.getenv("FAILURE_ARTIFACTS_DIR"),
+                props.getProperty("failureArtifactsDir"),
+                "target/failure-artifacts"
+        );
+    }
+
+    /** "enforce" (default): a blown budget fails the step; "report": it is logged and listed in target/perf-budgets.json only. */
+    public String perfBudgetMode() {
+        return firstNonBlank(
+                System.getProperty("perfBudgetMode"),
+                System.getenv("PERF_BUDGET_MODE"),
+                props.getProperty("perfBudgetMode"),
+                "enforce"
+        ).toLowerCase(java.util.Locale.ROOT);
+    }
+
+    /**
+     * Budgets in ms (longTasks: a count) of one view (home, rooms, booking): perfBudget.{view}.{metric} keys,
+     * overridden by PERF_BUDGET_{VIEW}_{METRIC} environment variables and then -DperfBudget.{view}.{metric}.
+     */
+    public java.util.Map<String, Double> perfBudgets(String view) {
+        String prefix = "perfBudget." + view + ".";
+        String envPrefix = "PERF_BUDGET_" + view.toUpperCase(java.util.Locale.ROOT) + "_";
+        java.util.Map<String, Double> budgets = new java.util.TreeMap<>();
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith(prefix)) putBudget(budgets, key.substring(prefix.length()), props.getProperty(key));
+        }
+        System.getenv().forEach((key, value) -> {
+            if (!key.startsWith(envPrefix)) return;
+            String env = key.substring(envPrefix.length());
+            // env names are upper case: match them to a metric already configured (BLOCKINGMS -> blockingMs)
+            String metric = budgets.keySet().stream().filter(env::equalsIgnoreCase).findFirst()
+                    .orElse(env.toLowerCase(java.util.Locale.ROOT));
+            putBudget(budgets, metric, value);
+        });
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(prefix)) putBudget(budgets, key.substring(prefix.length()), System.getProperty(key));
+        }
+        return budgets;
+    }
+
+    private static void putBudget(java.util.Map<String, Double> budgets, String metric, String value) {
+        if (metric.isBlank() || value == null || value.isBlank()) return;
+        budgets.put(metric, Double.parseDouble(value.trim()));
+    }
+
+    private static java.util.List<String> csv(String value) {
+        return java.util.Arrays.stream(value.split(",")).map(String::trim).filter(v -> !v.isEmpty()).toList();
+    }
+
     private static String firstNonBlank(String... values) {
         for (String v : values) if (v != null && !v.isBlank()) return v.trim();
         return "";
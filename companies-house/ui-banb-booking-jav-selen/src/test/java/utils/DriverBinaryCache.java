@@ -0,0 +1,162 @@
+package utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Machine-wide, version-pinned cache of driver binaries, described by a manifest in driverCacheDir:
+ *
+ *   chrome.driver.path=/home/ci/.cache/banb-drivers/chromedriver/linux64/128.0.6613.137/chromedriver
+ *   chrome.driver.version=128.0.6613.137
+ *   chrome.browser.path=/opt/chrome-headless-shell/chrome-headless-shell   (optional)
+ *
+ * A launch only reads the manifest and checks the file exists ("warm"). WebDriverManager runs once per
+ * machine and browser ("cold") to download into the cache dir and write the manifest; with driverOffline=true
+ * it never runs, so air-gapped agents use a manifest seeded by a networked run or written by hand.
+ * Every resolution and launch is timed for plugins.BrowserStartupPlugin.
+ */
+public final class DriverBinaryCache {
+
+    private static final String MANIFEST = "manifest.properties";
+
+    private static final List<Map<String, Object>> LAUNCHES = new ArrayList<>();
+
+    private DriverBinaryCache() {}
+
+    /** Driver and (optional) browser binary for one launch, plus how they were found. */
+    public record Binaries(Path driver, String driverVersion, Path browser, boolean cold, long resolveNanos) {}
+
+    /** Manifest lookup, or a one-off WebDriverManager download when the browser has no usable entry yet. */
+    public static synchronized Binaries resolve(String browser) {
+        long t0 = System.nanoTime();
+        ConfigLoader cfg = ConfigLoader.get();
+        Path dir = Path.of(cfg.driverCacheDir());
+        Properties manifest = load(dir);
+        String pinned = cfg.driverVersion(browser);
+
+        String path = manifest.getProperty(browser + ".driver.path");
+        String version = manifest.getProperty(browser + ".driver.version", "");
+        boolean usable = path != null && Files.isExecutable(Path.of(path))
+                && (pinned.isEmpty() || pinned.equals(version));
+
+        boolean cold = !usable;
+        if (cold) {
+            if (cfg.driverOffline()) {
+                throw new IllegalStateException("driverOffline=true but " + dir.resolve(MANIFEST) + " has no usable '"
+                        + browser + ".driver.path'" + (pinned.isEmpty() ? "" : " for version " + pinned)
+                        + ". Seed the cache with one networked run (same driverCacheDir) or add the entry by hand.");
+            }
+            WebDriverManager wdm = manager(browser).cachePath(dir.toString()).avoidShutdownHook();
+            if (!pinned.isEmpty()) wdm.driverVersion(pinned);
+            wdm.setup();
+            path = wdm.getDownloadedDriverPath();
+            version = wdm.getDownloadedDriverVersion();
+            manifest.setProperty(browser + ".driver.path", path);
+            manifest.setProperty(browser + ".driver.version", version);
+            manifest.setProperty(browser + ".resolvedAt", Instant.now().toString());
+            store(dir, manifest);
+            Log.info(() -> "Driver cache: resolved " + browser + " driver " + manifest.getProperty(browser + ".driver.version")
+                    + " into " + dir);
+        }
+
+        String browserPath = cfg.browserBinary(browser);
+        if (browserPath.isEmpty()) browserPath = manifest.getProperty(browser + ".browser.path", "");
+        Path browserBinary = browserPath.isEmpty() ? null : Path.of(browserPath);
+        return new Binaries(Path.of(path), version, browserBinary, cold, System.nanoTime() - t0);
+    }
+
+    /** Records one browser start (driver resolution + new session) for the startup report. */
+    public static synchronized void recordLaunch(String browser, Binaries binaries, long launchNanos) {
+        Map<String, Object> launch = new LinkedHashMap<>();
+        launch.put("browser", browser);
+        launch.put("driverVersion", binaries.driverVersion());
+        launch.put("headlessShell", binaries.browser() != null && isHeadlessShell(binaries.browser()));
+        launch.put("resolution", binaries.cold() ? "cold" : "warm");
+        launch.put("resolveMs", Percentiles.ms(binaries.resolveNanos()));
+        launch.put("launchMs", Percentiles.ms(launchNanos));
+        launch.put("thread", Thread.currentThread().getName());
+        LAUNCHES.add(launch);
+    }
+
+    /** Launches in start order plus cold/warm averages; empty map when no local browser was started. */
+    public static synchronized Map<String, Object> report() {
+        if (LAUNCHES.isEmpty()) return Map.of();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("unit", "ms");
+        out.put("cold", averages("cold"));
+        out.put("warm", averages("warm"));
+        out.put("launches", new ArrayList<>(LAUNCHES));
+        return out;
+    }
+
+    public static synchronized void reset() {
+        LAUNCHES.clear();
+    }
+
+    /** chrome-headless-shell is always headless and takes no --headless flag. */
+    public static boolean isHeadlessShell(Path browserBinary) {
+        String name = browserBinary.getFileName().toString().toLowerCase(java.util.Locale.ROOT);
+        return name.contains("headless-shell") || name.contains("headless_shell");
+    }
+
+    private static Map<String, Object> averages(String resolution) {
+        List<Map<String, Object>> rows = LAUNCHES.stream().filter(l -> resolution.equals(l.get("resolution"))).toList();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("count", rows.size());
+        m.put("meanResolveMs", mean(rows, "resolveMs"));
+        m.put("meanLaunchMs", mean(rows, "launchMs"));
+        return m;
+    }
+
+    private static double mean(List<Map<String, Object>> rows, String key) {
+        return rows.isEmpty() ? 0 : Percentiles.round1(rows.stream().mapToDouble(r -> (double) r.get(key)).average().orElse(0));
+    }
+
+    private static WebDriverManager manager(String browser) {
+        return switch (browser) {
+            case "firefox" -> WebDriverManager.firefoxdriver();
+            case "edge"    -> WebDriverManager.edgedriver();
+            default        -> WebDriverManager.chromedriver();
+        };
+    }
+
+    private static Properties load(Path dir) {
+        Properties p = new Properties();
+        Path file = dir.resolve(MANIFEST);
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                p.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unreadable driver manifest " + file, e);
+            }
+        }
+        return p;
+    }
+
+    // written to a temp file and moved, so a parallel JVM on the same machine never reads half a manifest
+    private static void store(Path dir, Properties p) {
+        try {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, MANIFEST, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                p.store(out, "Pinned driver binaries (see DriverBinaryCache)");
+            }
+            Files.move(tmp, dir.resolve(MANIFEST), java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+                    java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write driver manifest in " + dir, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Per-thread WebDriver registry.
+ * Cucumber runs every step and hook of a scenario on the same worker thread,
+ * so binding the session to the thread keeps parallel scenarios isolated.
+ */
+public final class DriverManager {
+
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<WaitUtils> WAIT = new ThreadLocal<>();
+
+    private DriverManager() {}
+
+    /** Driver bound to the calling thread, or null if none was started. */
+    public static WebDriver getDriver() {
+        return DRIVER.get();
+    }
+
+    /** WaitUtils bound to the calling thread's driver. */
+    public static WaitUtils getWait() {
+        return WAIT.get();
+    }
+
+    public static boolean hasDriver() {
+        return DRIVER.get() != null;
+    }
+
+    static void register(WebDriver driver) {
+        DRIVER.set(driver);
+        WAIT.set(new WaitUtils(driver));
+    }
+
+    /** Detaches the calling thread's driver and returns it (caller decides whether to quit or pool it). */
+    static WebDriver unregister() {
+        WebDriver driver = DRIVER.get();
+        DRIVER.remove();
+        WAIT.remove();
+        return driver;
+    }
+}
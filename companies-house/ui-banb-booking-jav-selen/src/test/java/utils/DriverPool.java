@@ -0,0 +1,150 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Pool of warm browser sessions with lease/return semantics.
+ * A new browser is only launched when the pool has spare capacity and no idle
+ * session is available, or when a session turns out to be broken and is evicted.
+ */
+public final class DriverPool {
+
+    private final Supplier<WebDriver> factory;
+    private final int maxSize;
+    private final Duration leaseTimeout;
+
+    private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+    private final Set<WebDriver> all = ConcurrentHashMap.newKeySet();
+    private final Semaphore capacity;
+
+    public DriverPool(Supplier<WebDriver> factory, int maxSize, Duration leaseTimeout) {
+        if (maxSize < 1) throw new IllegalArgumentException("Pool size must be at least 1 (got: " + maxSize + ").");
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.leaseTimeout = leaseTimeout;
+        this.capacity = new Semaphore(maxSize);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    /** Hands out a healthy session, launching a browser only if none is idle and capacity allows. */
+    public WebDriver lease() {
+        long start = System.nanoTime();
+        long deadline = start + leaseTimeout.toNanos();
+        while (true) {
+            WebDriver d = idle.pollFirst();
+            if (d != null) {
+                if (isHealthy(d)) {
+                    SessionTimeline.leased(d, System.nanoTime() - start);
+                    return d;
+                }
+                evict(d);
+                continue;
+            }
+            if (capacity.tryAcquire()) {
+                long waited = System.nanoTime() - start; // the launch itself is not backpressure
+                try {
+                    WebDriver created = factory.get();
+                    all.add(created);
+                    Log.info(() -> "Pool: launched new browser (" + all.size() + "/" + maxSize + ").");
+                    SessionTimeline.leased(created, waited);
+                    return created;
+                } catch (RuntimeException e) {
+                    capacity.release();
+                    throw e;
+                }
+            }
+            // every session is leased out: wait for one to come back
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IllegalStateException("No browser session became free within " + leaseTimeout
+                        + " (pool size " + maxSize + ").");
+            }
+            try {
+                d = idle.pollFirst(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a browser session.", e);
+            }
+            if (d != null) idle.offerFirst(d); // re-check health at the top of the loop
+        }
+    }
+
+    /** Resets the session and puts it back; broken sessions are evicted instead. */
+    public void release(WebDriver driver) {
+        if (driver == null) return;
+        try {
+            reset(driver);
+            SessionTimeline.returned(driver);
+            idle.offerFirst(driver); // LIFO: the most recently used session is the warmest
+        } catch (Exception e) {
+            Log.warn(() -> "Pool: session reset failed, evicting (" + e.getClass().getSimpleName() + ").");
+            evict(driver);
+        }
+    }
+
+    /**
+     * Same as release, on a SessionThreads thread: on a remote grid the reset is several HTTP round trips the
+     * scenario worker need not wait for. The slot stays in flight until the session is back in the pool.
+     */
+    public void releaseAsync(WebDriver driver) {
+        if (driver != null) SessionThreads.run(() -> release(driver));
+    }
+
+    /** Quits the session for good (e.g., after a crash) and frees its slot. */
+    public void evict(WebDriver driver) {
+        SessionTimeline.returned(driver);
+        if (!all.remove(driver)) return;
+        try { driver.quit(); } catch (Exception ignored) {}
+        capacity.release();
+    }
+
+    public int size() {
+        return all.size();
+    }
+
+    // ---------- helpers ----------
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            Log.warn(() -> "Pool: idle session failed health check (" + e.getClass().getSimpleName() + ").");
+            return false;
+        }
+    }
+
+    /** Clears cookies and web storage, closes extra windows and parks the session on about:blank. */
+    private static void reset(WebDriver driver) {
+        String keep = driver.getWindowHandles().iterator().next();
+        for (String handle : driver.getWindowHandles()) {
+            if (!handle.equals(keep)) driver.switchTo().window(handle).close();
+        }
+        driver.switchTo().window(keep);
+
+        // storage is per-origin, so clear it before leaving the app's origin
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); } catch (e) {}" +
+                "try { window.sessionStorage.clear(); } catch (e) {}");
+        driver.manage().deleteAllCookies();
+        driver.get("about:blank");
+    }
+
+    private void shutdown() {
+        for (WebDriver d : all) {
+            try { d.quit(); } catch (Exception ignored) {}
+        }
+        all.clear();
+        idle.clear();
+    }
+}
@@ -0,0 +1,227 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Screenshot, app DOM (#root, else the whole document) and browser console of a failed scenario.
+ * Only the browser round trips and a SHA-256 of each artifact happen on the scenario worker; compressing and
+ * writing go to one background thread, so the session can go back to the pool straight away. Files are
+ * content-addressed ({sha256}.png / .html.gz / .log.gz under failureArtifactsDir), so an artifact identical to an
+ * earlier one (same error page, same console output) is linked again instead of written again. PNGs are
+ * already compressed and are stored as they are.
+ *
+ * Console lines need the browser log (goog:loggingPrefs / ms:loggingPrefs, set by BaseTest for Chrome and Edge);
+ * Firefox and Safari have none, so there the console artifact is skipped.
+ */
+public final class FailureArtifacts {
+
+    // DOM the page objects work in, with where it came from
+    private static final String DOM_JS =
+            "var r = document.querySelector('#root') || document.documentElement;" +
+            "return '<!-- ' + location.href + ' | ' + document.title + ' -->\\n' + r.outerHTML;";
+    private static final Path REPORT_DIR = Path.of("target"); // where html:target/cucumber-report.html lives
+
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "artifact-writer");
+        t.setDaemon(true);
+        return t;
+    });
+    private static final Set<String> STORED = ConcurrentHashMap.newKeySet(); // file names written or queued
+    private static final List<Map<String, Object>> FAILURES = new ArrayList<>();
+    private static final LongAdder CAPTURE_NANOS = new LongAdder();
+    private static final LongAdder WRITE_NANOS = new LongAdder();
+    private static final LongAdder BYTES_CAPTURED = new LongAdder();
+    private static final LongAdder BYTES_WRITTEN = new LongAdder();
+    private static final LongAdder FILES_WRITTEN = new LongAdder();
+    private static final LongAdder DUPLICATES = new LongAdder();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> awaitWrites(30), "artifact-flush"));
+    }
+
+    private FailureArtifacts() {}
+
+    /**
+     * Captures the artifacts of a failed scenario and queues them for writing.
+     * @param since scenario start; console lines logged before it belong to earlier scenarios on this session
+     * @return links to the artifacts, relative to the HTML report (for a text/uri-list attachment)
+     */
+    public static List<String> capture(WebDriver driver, String scenario, Instant since) {
+        long t0 = System.nanoTime();
+        Path dir = Path.of(ConfigLoader.get().failureArtifactsDir());
+        List<Map<String, Object>> artifacts = new ArrayList<>();
+        List<String> links = new ArrayList<>();
+
+        byte[] png = attempt("screenshot", () -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+        byte[] dom = attempt("DOM", () -> utf8(((JavascriptExecutor) driver).executeScript(DOM_JS)));
+        byte[] console = attempt("console", () -> console(driver, since));
+
+        store(dir, "screenshot", png, ".png", false, artifacts, links);
+        store(dir, "dom", dom, ".html.gz", true, artifacts, links);
+        store(dir, "console", console, ".log.gz", true, artifacts, links);
+
+        long took = System.nanoTime() - t0;
+        CAPTURE_NANOS.add(took);
+        Map<String, Object> failure = new LinkedHashMap<>();
+        failure.put("scenario", scenario);
+        failure.put("captureMs", Percentiles.ms(took));
+        failure.put("artifacts", artifacts);
+        synchronized (FAILURES) {
+            FAILURES.add(failure);
+        }
+        Log.info(() -> "📎 Failure artifacts queued in " + Math.round(took / 1_000_000.0) + " ms: " + links);
+        return links;
+    }
+
+    /** Counts and sizes per run, once every queued artifact is on disk. */
+    public static Map<String, Object> report() {
+        awaitWrites(60);
+        Map<String, Object> out = new LinkedHashMap<>();
+        synchronized (FAILURES) {
+            if (FAILURES.isEmpty()) return Map.of();
+            out.put("dir", ConfigLoader.get().failureArtifactsDir());
+            out.put("failures", FAILURES.size());
+            out.put("filesWritten", FILES_WRITTEN.sum());
+            out.put("duplicatesSkipped", DUPLICATES.sum());
+            out.put("bytesCaptured", BYTES_CAPTURED.sum());
+            out.put("bytesWritten", BYTES_WRITTEN.sum());
+            out.put("captureMsOnWorkers", Percentiles.ms(CAPTURE_NANOS.sum()));
+            out.put("writeMsInBackground", Percentiles.ms(WRITE_NANOS.sum()));
+            out.put("scenarios", new ArrayList<>(FAILURES));
+        }
+        return out;
+    }
+
+    public static void reset() {
+        synchronized (FAILURES) {
+            FAILURES.clear();
+        }
+        CAPTURE_NANOS.reset();
+        WRITE_NANOS.reset();
+        BYTES_CAPTURED.reset();
+        BYTES_WRITTEN.reset();
+        FILES_WRITTEN.reset();
+        DUPLICATES.reset();
+    }
+
+    // ---------- helpers ----------
+
+    private static void store(Path dir, String kind, byte[] data, String ext, boolean gzip,
+                              List<Map<String, Object>> artifacts, List<String> links) {
+        if (data == null || data.length == 0) return;
+        String name = sha256(data) + ext;
+        Path file = dir.resolve(name);
+        boolean duplicate = !STORED.add(name) || Files.exists(file);
+        BYTES_CAPTURED.add(data.length);
+        if (duplicate) {
+            DUPLICATES.increment();
+        } else {
+            WRITER.execute(() -> write(file, data, gzip));
+        }
+        Map<String, Object> a = new LinkedHashMap<>();
+        a.put("kind", kind);
+        a.put("file", name);
+        a.put("bytes", data.length);
+        a.put("duplicate", duplicate);
+        artifacts.add(a);
+        links.add(link(file));
+    }
+
+    private static void write(Path file, byte[] data, boolean gzip) {
+        long t0 = System.nanoTime();
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (OutputStream out = gzip ? new GZIPOutputStream(Files.newOutputStream(tmp)) : Files.newOutputStream(tmp)) {
+                out.write(data);
+            }
+            BYTES_WRITTEN.add(Files.size(tmp));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            FILES_WRITTEN.increment();
+        } catch (IOException e) {
+            Log.warn(() -> "Could not write failure artifact " + file + ": " + e.getMessage());
+        } finally {
+            WRITE_NANOS.add(System.nanoTime() - t0);
+        }
+    }
+
+    private static void awaitWrites(int seconds) {
+        try {
+            WRITER.submit(() -> {}).get(seconds, TimeUnit.SECONDS); // single writer: runs after everything queued
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            Log.warn(() -> "Failure artifacts still being written: " + e);
+        }
+    }
+
+    private static byte[] console(WebDriver driver, Instant since) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+            if (entry.getTimestamp() < since.toEpochMilli()) continue;
+            String line = Instant.ofEpochMilli(entry.getTimestamp()) + " [" + entry.getLevel() + "] " + entry.getMessage() + "\n";
+            out.writeBytes(line.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private interface Capture {
+        byte[] get() throws Exception;
+    }
+
+    // a dead or unsupported capture must not fail the hook
+    private static byte[] attempt(String what, Capture capture) {
+        try {
+            return capture.get();
+        } catch (Exception e) {
+            Log.debug(() -> "No " + what + " captured: " + e.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    private static byte[] utf8(Object text) {
+        return text == null ? null : String.valueOf(text).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // relative to the HTML report so the links survive archiving target/; absolute when the dir is elsewhere
+    private static String link(Path file) {
+        Path rel = REPORT_DIR.toAbsolutePath().normalize().relativize(file.toAbsolutePath().normalize());
+        return rel.startsWith("..") ? file.toAbsolutePath().toUri().toString() : rel.toString().replace('\\', '/');
+    }
+}
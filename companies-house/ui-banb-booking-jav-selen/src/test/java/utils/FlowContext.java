@@ -0,0 +1,58 @@
+package utils;
+
+import flows.Flows;
+import flows.HttpFlows;
+import flows.SeleniumFlows;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Which Flows implementation the scenario on this worker thread runs against, chosen by Hooks before it starts:
+ * an @http or @ui tag wins, other @flows scenarios follow -Dflows (ui by default), and everything else is ui.
+ * Scenarios on http never lease a browser.
+ */
+public final class FlowContext {
+
+    private static final ThreadLocal<String> IMPLEMENTATION = new ThreadLocal<>();
+    private static final ThreadLocal<Flows> FLOWS = new ThreadLocal<>();
+
+    private FlowContext() {}
+
+    /** Binds the implementation for the scenario with these tags to this thread and returns it. */
+    public static String select(Collection<String> tags) {
+        String impl;
+        if (tags.contains("@http")) impl = "http";
+        else if (tags.contains("@ui")) impl = "ui";
+        else if (tags.contains("@flows")) impl = ConfigLoader.get().flows();
+        else impl = "ui";
+        if (!impl.equals("ui") && !impl.equals("http")) {
+            throw new IllegalArgumentException("flows must be ui or http, not '" + impl + "'");
+        }
+        IMPLEMENTATION.set(impl);
+        FLOWS.remove();
+        return impl;
+    }
+
+    public static boolean needsBrowser() {
+        return !"http".equals(IMPLEMENTATION.get());
+    }
+
+    /** This scenario's flows; the ui ones drive the browser leased by Hooks. */
+    public static Flows flows() {
+        Flows f = FLOWS.get();
+        if (f == null) {
+            ConfigLoader cfg = ConfigLoader.get();
+            f = needsBrowser()
+                    ? new SeleniumFlows(DriverManager.getDriver(), cfg.baseUrl())
+                    : new HttpFlows(cfg.baseUrl(), Duration.ofSeconds(cfg.pageLoadTimeoutSeconds()));
+            FLOWS.set(f);
+        }
+        return f;
+    }
+
+    public static void clear() {
+        IMPLEMENTATION.remove();
+        FLOWS.remove();
+    }
+}
@@ -0,0 +1,88 @@
+package utils;
+
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * How many sessions this run may hold on the remote grid: gridSlots=N, or with gridSlots=auto the slots
+ * for our browser in the grid's /status (Selenium Grid 4 nodes/slots, or Selenoid's "total"), capped by
+ * gridMaxParallel. Scenario workers and the driver pool are both sized from it, so concurrency follows the
+ * grid rather than the local CPU count. Without remoteUrl it is the local poolSize.
+ */
+public final class GridCapacity {
+
+    private static volatile Integer slots;
+
+    private GridCapacity() {}
+
+    public static int slots() {
+        Integer s = slots;
+        if (s == null) {
+            synchronized (GridCapacity.class) {
+                if (slots == null) slots = resolve(ConfigLoader.get());
+                s = slots;
+            }
+        }
+        return s;
+    }
+
+    public static boolean isRemote() {
+        return !ConfigLoader.get().remoteUrl().isBlank();
+    }
+
+    private static int resolve(ConfigLoader cfg) {
+        if (!isRemote()) return cfg.poolSize();
+        int max = cfg.gridMaxParallel();
+        String configured = cfg.gridSlots();
+        if (!"auto".equalsIgnoreCase(configured)) return Math.min(Integer.parseInt(configured), max);
+
+        String status = cfg.remoteUrl().replaceAll("/+$", "") + "/status";
+        try {
+            HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            HttpResponse<String> res = http.send(HttpRequest.newBuilder(URI.create(status))
+                    .timeout(Duration.ofSeconds(10)).GET().build(), HttpResponse.BodyHandlers.ofString());
+            int found = count(new Json().toType(res.body(), Json.MAP_TYPE), cfg.browser());
+            if (found > 0) {
+                Log.info(() -> "Grid: " + found + " " + cfg.browser() + " slot(s) at " + status
+                        + (found > max ? ", using " + max + " (gridMaxParallel)" : ""));
+                return Math.min(found, max);
+            }
+            Log.warn(() -> "Grid: no " + cfg.browser() + " slots reported by " + status + "; using poolSize " + cfg.poolSize());
+        } catch (Exception e) {
+            Log.warn(() -> "Grid: could not read " + status + " (" + e.getMessage() + "); using poolSize " + cfg.poolSize());
+        }
+        return Math.min(cfg.poolSize(), max);
+    }
+
+    private static int count(Map<String, Object> status, String browser) {
+        if (status.get("total") instanceof Number total) return total.intValue(); // Selenoid
+        Object value = status.get("value");
+        if (!(value instanceof Map<?, ?> v) || !(v.get("nodes") instanceof List<?> nodes)) return 0;
+        String wanted = gridBrowserName(browser);
+        int n = 0;
+        for (Object node : nodes) {
+            if (!(node instanceof Map<?, ?> nm) || "DOWN".equals(nm.get("availability"))) continue;
+            if (!(nm.get("slots") instanceof List<?> slotList)) continue;
+            for (Object slot : slotList) {
+                if (slot instanceof Map<?, ?> sm && sm.get("stereotype") instanceof Map<?, ?> st
+                        && wanted.equalsIgnoreCase(String.valueOf(st.get("browserName")))) n++;
+            }
+        }
+        return n;
+    }
+
+    private static String gridBrowserName(String browser) {
+        return switch (browser.toLowerCase(Locale.ROOT)) {
+            case "edge" -> "MicrosoftEdge";
+            default -> browser;
+        };
+    }
+}
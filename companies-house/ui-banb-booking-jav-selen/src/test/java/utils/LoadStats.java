@@ -0,0 +1,94 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-step latencies and failures of the booking load run (testrunner.BookingLoadRunner), shared by all
+ * simulated users. A journey counts as completed only if every step passed; a failed step ends the journey
+ * and is recorded against that step with its exception type.
+ */
+public final class LoadStats {
+
+    private final Map<String, List<Long>> latencies = new LinkedHashMap<>(); // step -> nanos, in journey order
+    private final Map<String, Map<String, Integer>> errors = new LinkedHashMap<>(); // step -> exception -> count
+    private final List<Long> journeys = new ArrayList<>(); // nanos of completed journeys
+    private int started;
+    private int failed;
+    private long start = System.nanoTime();
+    private long end;
+
+    public synchronized void begin() {
+        start = System.nanoTime();
+    }
+
+    public synchronized void finish() {
+        end = System.nanoTime();
+    }
+
+    public synchronized void journeyStarted() {
+        started++;
+    }
+
+    public synchronized void step(String step, long nanos) {
+        latencies.computeIfAbsent(step, s -> new ArrayList<>()).add(nanos);
+    }
+
+    public synchronized void stepFailed(String step, Throwable error) {
+        latencies.computeIfAbsent(step, s -> new ArrayList<>());
+        errors.computeIfAbsent(step, s -> new TreeMap<>()).merge(error.getClass().getSimpleName(), 1, Integer::sum);
+        failed++;
+    }
+
+    public synchronized void journeyCompleted(long nanos) {
+        journeys.add(nanos);
+    }
+
+    /** Throughput, error rate and per-step p50/p90/p95/p99 (ms) with errors by exception type. */
+    public synchronized Map<String, Object> report() {
+        long elapsed = (end > 0 ? end : System.nanoTime()) - start;
+        double minutes = elapsed / 60_000_000_000.0;
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("unit", "ms");
+        out.put("elapsedMs", Percentiles.ms(elapsed));
+        out.put("journeysStarted", started);
+        out.put("journeysCompleted", journeys.size());
+        out.put("journeysFailed", failed);
+        out.put("journeysPerMinute", minutes > 0 ? Percentiles.round1(journeys.size() / minutes) : 0);
+        out.put("errorRate", rate(failed, started));
+        out.put("journey", latency(journeys));
+
+        Map<String, Object> steps = new LinkedHashMap<>();
+        latencies.forEach((step, samples) -> {
+            Map<String, Integer> byType = errors.getOrDefault(step, Map.of());
+            int stepErrors = byType.values().stream().mapToInt(Integer::intValue).sum();
+            Map<String, Object> s = new LinkedHashMap<>(latency(samples));
+            s.put("errors", stepErrors);
+            s.put("errorRate", rate(stepErrors, samples.size() + stepErrors));
+            if (!byType.isEmpty()) s.put("errorTypes", byType);
+            steps.put(step, s);
+        });
+        out.put("steps", steps);
+        return out;
+    }
+
+    private static Map<String, Object> latency(List<Long> samples) {
+        long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("count", sorted.length);
+        m.put("p50Ms", Percentiles.ms(Percentiles.nearestRank(sorted, 50)));
+        m.put("p90Ms", Percentiles.ms(Percentiles.nearestRank(sorted, 90)));
+        m.put("p95Ms", Percentiles.ms(Percentiles.nearestRank(sorted, 95)));
+        m.put("p99Ms", Percentiles.ms(Percentiles.nearestRank(sorted, 99)));
+        m.put("maxMs", Percentiles.ms(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        return m;
+    }
+
+    private static double rate(int part, int whole) {
+        return whole == 0 ? 0 : Math.round(part * 10_000.0 / whole) / 10_000.0;
+    }
+}
@@ -0,0 +1,124 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares the front-end metrics of a view (PerfMetrics.read) with its budgets (ConfigLoader.perfBudgets) and keeps
+ * every check for PerfBudgetPlugin. A metric the browser did not report (LCP and long tasks outside Chromium, load
+ * when the booking page is reached without a reload) is listed as such and does not count as a breach.
+ */
+public final class PerfBudgets {
+
+    /** One view checked in one scenario; table() is what a failing step shows. */
+    public record Result(String scenario, String view, Map<String, Double> actual, Map<String, Double> budgets,
+                         List<String> breaches, List<String> notReported) {
+
+        public boolean passed() {
+            return breaches.isEmpty();
+        }
+
+        public String table() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format(Locale.ROOT, "Performance budget of '%s' (%s)%n", view, scenario));
+            sb.append(String.format(Locale.ROOT, "  %-18s %10s %10s %10s%n", "metric", "actual", "budget", "over by"));
+            budgets.forEach((metric, budget) -> {
+                Double value = actual.get(metric);
+                if (value == null) {
+                    sb.append(String.format(Locale.ROOT, "  %-18s %10s %10s %10s   - not reported by this browser%n",
+                            metric, "-", fmt(budget), "-"));
+                } else {
+                    boolean over = value > budget;
+                    sb.append(String.format(Locale.ROOT, "  %-18s %10s %10s %10s   %s%n",
+                            metric, fmt(value), fmt(budget), over ? fmt(value - budget) : "", over ? "✗" : "✓"));
+                }
+            });
+            actual.forEach((metric, value) -> {
+                if (!budgets.containsKey(metric)) {
+                    sb.append(String.format(Locale.ROOT, "  %-18s %10s %10s%n", metric, fmt(value), "-"));
+                }
+            });
+            return sb.toString();
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("scenario", scenario);
+            m.put("view", view);
+            m.put("passed", passed());
+            m.put("actual", actual);
+            m.put("budgets", budgets);
+            m.put("breaches", breaches);
+            m.put("notReported", notReported);
+            return m;
+        }
+    }
+
+    private static final List<Result> RESULTS = new ArrayList<>();
+
+    private PerfBudgets() {}
+
+    /** Checks actual against budgets and records the result; it is up to the caller to fail on it (see enforce()). */
+    public static Result check(String scenario, String view, Map<String, Double> actual, Map<String, Double> budgets) {
+        List<String> breaches = new ArrayList<>();
+        List<String> notReported = new ArrayList<>();
+        budgets.forEach((metric, budget) -> {
+            Double value = actual.get(metric);
+            if (value == null) notReported.add(metric);
+            else if (value > budget) breaches.add(metric);
+        });
+        Result result = new Result(scenario, view, new LinkedHashMap<>(actual), new LinkedHashMap<>(budgets),
+                List.copyOf(breaches), List.copyOf(notReported));
+        synchronized (RESULTS) {
+            RESULTS.add(result);
+        }
+        if (result.passed()) Log.info(() -> "⏱ " + result.table());
+        else Log.warn(() -> "⏱ " + result.table());
+        return result;
+    }
+
+    /** perfBudgetMode=enforce fails the step on a breach; report only logs it. */
+    public static void enforce(Result result) {
+        if (result.passed() || !"enforce".equals(ConfigLoader.get().perfBudgetMode())) return;
+        throw new AssertionError("Performance budget exceeded for " + result.breaches() + "\n" + result.table());
+    }
+
+    /** Every check of the run, breaches first. */
+    public static Map<String, Object> report() {
+        List<Map<String, Object>> checks = new ArrayList<>();
+        int breached = 0;
+        synchronized (RESULTS) {
+            if (RESULTS.isEmpty()) return Map.of();
+            for (Result r : RESULTS) {
+                if (r.passed()) checks.add(r.toMap());
+                else checks.add(breached++, r.toMap());
+            }
+        }
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("mode", ConfigLoader.get().perfBudgetMode());
+        out.put("checks", checks.size());
+        out.put("breached", breached);
+        out.put("results", checks);
+        return out;
+    }
+
+    /** Tables of the breached checks, for the end-of-run summary. */
+    public static List<String> breachTables() {
+        synchronized (RESULTS) {
+            return RESULTS.stream().filter(r -> !r.passed()).map(Result::table).toList();
+        }
+    }
+
+    public static void reset() {
+        synchronized (RESULTS) {
+            RESULTS.clear();
+        }
+    }
+
+    private static String fmt(double v) {
+        return v == Math.rint(v) ? String.valueOf((long) v) : String.format(Locale.ROOT, "%.1f", v);
+    }
+}
@@ -0,0 +1,355 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.bidi.network.AddInterceptParameters;
+import org.openqa.selenium.bidi.network.ContinueRequestParameters;
+import org.openqa.selenium.bidi.network.InterceptPhase;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps fonts, images and third-party tags the assertions never look at from loading.
+ *
+ *   resourceBlocking=blocklist  block URLs matching resourceBlocklist (globs, '*' = anything)
+ *   resourceBlocking=allowlist  block every URL that does not match resourceAllowlist
+ *   resourceBlocking=off        (default) load everything
+ *
+ * Chromium in blocklist mode uses CDP Network.setBlockedURLs, so the browser drops requests without asking us.
+ * Allowlist mode (Chromium: CDP Fetch, Firefox: WebDriver BiDi network intercepts) pauses each request and
+ * decides here. Firefox blocklist mode goes the same way, since BiDi URL patterns have no wildcards.
+ *
+ * Every resourceBlockingControlEvery-th app navigation (http/https driver.get(); the pool's about:blank resets
+ * don't count) of a session runs unblocked as a control sample. Navigations are compared by the document's
+ * loadEventEnd, read just before the session navigates away: get() returns at DOMContentLoaded (eager), before
+ * the blocked images and fonts would have loaded. Bytes avoided are estimated from a background HEAD request
+ * per distinct blocked URL (Content-Length).
+ */
+public final class ResourceBlocker {
+
+    private static final Event<Map<String, Object>> REQUEST_WILL_BE_SENT = event("Network.requestWillBeSent");
+    private static final Event<Map<String, Object>> LOADING_FAILED = event("Network.loadingFailed");
+    private static final Event<Map<String, Object>> LOADING_FINISHED = event("Network.loadingFinished");
+    private static final Event<Map<String, Object>> REQUEST_PAUSED = event("Fetch.requestPaused");
+
+    private static final int MAX_PROBED_URLS = 500;
+
+    // run-wide stats, shared by every session
+    private static final LongAdder BLOCKED = new LongAdder();
+    private static final Map<String, LongAdder> BY_TYPE = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> BY_HOST = new ConcurrentHashMap<>();
+    private static final Map<String, Long> BYTES_BY_URL = new ConcurrentHashMap<>(); // -1 = size unknown
+    private static final Navigations BLOCKED_NAVS = new Navigations();
+    private static final Navigations CONTROL_NAVS = new Navigations();
+
+    private static final ExecutorService PROBES = Executors.newFixedThreadPool(2, r -> {
+        Thread t = new Thread(r, "blocked-size-probe");
+        t.setDaemon(true);
+        return t;
+    });
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(3)).followRedirects(HttpClient.Redirect.NORMAL).build();
+
+    private final String mode;
+    private final List<Pattern> patterns;
+    private final List<String> globs;
+    private final int controlEvery;
+    private final AtomicInteger navigations = new AtomicInteger();
+    private volatile boolean paused; // true while a control navigation runs
+
+    private Runnable pause = () -> {};
+    private Runnable resume = () -> {};
+
+    private ResourceBlocker(String mode, List<String> globs, int controlEvery) {
+        this.mode = mode;
+        this.globs = globs;
+        this.patterns = globs.stream().map(ResourceBlocker::glob).toList();
+        this.controlEvery = controlEvery;
+    }
+
+    /**
+     * Installs blocking on a freshly created local session (before it is wrapped by EventFiringDecorator)
+     * and returns the listener that samples navigations; null when blocking is off or not supported here.
+     */
+    public static WebDriverListener install(WebDriver driver, String browser) {
+        ConfigLoader cfg = ConfigLoader.get();
+        String mode = cfg.resourceBlocking();
+        if ("off".equals(mode)) return null;
+
+        List<String> globs = "allowlist".equals(mode) ? cfg.resourceAllowlist() : cfg.resourceBlocklist();
+        ResourceBlocker blocker = new ResourceBlocker(mode, globs, cfg.resourceBlockingControlEvery());
+        try {
+            if (driver instanceof HasDevTools cdp && !"firefox".equals(browser)) {
+                blocker.installCdp(cdp.getDevTools());
+            } else if ("firefox".equals(browser)) {
+                blocker.installBiDi(driver);
+            } else {
+                Log.warn(() -> "Resource blocking is not supported for " + browser + "; loading everything.");
+                return null;
+            }
+        } catch (RuntimeException e) {
+            Log.warn(() -> "Resource blocking could not be enabled (" + e.getClass().getSimpleName() + ": "
+                    + e.getMessage() + "); loading everything.");
+            return null;
+        }
+        Log.info(() -> "Resource blocking (" + mode + ") on " + browser + ": " + globs);
+        return blocker.new ControlSampler();
+    }
+
+    // ---------- Chromium: CDP ----------
+
+    private void installCdp(DevTools devTools) {
+        devTools.createSessionIfThereIsNotOne();
+        if ("blocklist".equals(mode)) {
+            Map<String, String[]> pending = new ConcurrentHashMap<>(); // requestId -> [url, type]
+            devTools.addListener(REQUEST_WILL_BE_SENT, e -> {
+                Map<?, ?> request = (Map<?, ?>) e.get("request");
+                pending.put(String.valueOf(e.get("requestId")),
+                        new String[]{String.valueOf(request.get("url")), String.valueOf(e.get("type"))});
+            });
+            devTools.addListener(LOADING_FINISHED, e -> pending.remove(String.valueOf(e.get("requestId"))));
+            devTools.addListener(LOADING_FAILED, e -> {
+                String[] req = pending.remove(String.valueOf(e.get("requestId")));
+                if (req != null && e.get("blockedReason") != null) recordBlocked(req[0], req[1]);
+            });
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+            Runnable block = () -> devTools.send(new Command<Void>("Network.setBlockedURLs", Map.of("urls", globs)));
+            block.run();
+            pause = () -> devTools.send(new Command<Void>("Network.setBlockedURLs", Map.of("urls", List.of())));
+            resume = block;
+        } else {
+            devTools.addListener(REQUEST_PAUSED, e -> {
+                String id = String.valueOf(e.get("requestId"));
+                String url = String.valueOf(((Map<?, ?>) e.get("request")).get("url"));
+                if (blocks(url)) {
+                    recordBlocked(url, String.valueOf(e.get("resourceType")));
+                    devTools.send(new Command<Void>("Fetch.failRequest", Map.of("requestId", id, "errorReason", "BlockedByClient")));
+                } else {
+                    devTools.send(new Command<Void>("Fetch.continueRequest", Map.of("requestId", id)));
+                }
+            });
+            Runnable enable = () -> devTools.send(new Command<Void>("Fetch.enable",
+                    Map.of("patterns", List.of(Map.of("urlPattern", "*", "requestStage", "Request")))));
+            enable.run();
+            pause = () -> devTools.send(new Command<Void>("Fetch.disable", Map.of()));
+            resume = enable;
+        }
+    }
+
+    // ---------- Firefox: WebDriver BiDi (needs the webSocketUrl capability) ----------
+
+    private void installBiDi(WebDriver driver) {
+        Network network = new Network(driver);
+        network.addIntercept(new AddInterceptParameters(InterceptPhase.BEFORE_REQUEST_SENT));
+        network.onBeforeRequestSent(e -> {
+            if (!e.isBlocked()) return; // not paused by our intercept
+            String id = e.getRequest().getRequestId();
+            String url = e.getRequest().getUrl();
+            if (!paused && blocks(url)) {
+                recordBlocked(url, typeOf(url)); // BiDi has no resource type, so guess from the extension
+                network.failRequest(id);
+            } else {
+                network.continueRequest(new ContinueRequestParameters(id));
+            }
+        });
+        pause = () -> paused = true;
+        resume = () -> paused = false;
+    }
+
+    private boolean blocks(String url) {
+        if (url.startsWith("data:") || url.startsWith("blob:")) return false;
+        boolean matches = patterns.stream().anyMatch(p -> p.matcher(url).matches());
+        return "allowlist".equals(mode) != matches;
+    }
+
+    // ---------- navigation sampling ----------
+
+    /**
+     * Samples app navigations of one session; every controlEvery-th one runs with blocking paused. Blocking
+     * stays paused for the whole control document (images and fonts load after get() returns) and resumes
+     * when the session navigates away, or straight away if the control get() fails.
+     * Per session rather than per thread: the pool resets sessions on background threads.
+     */
+    public final class ControlSampler implements WebDriverListener {
+        private Boolean navigating; // get() in progress: control or not
+        private Boolean loaded;     // document from a completed get(), sampled when the session leaves it
+
+        @Override
+        public synchronized void beforeGet(WebDriver driver, String url) {
+            leave(driver);
+            if (!url.startsWith("http:") && !url.startsWith("https:")) return; // about:blank, data: ... not app pages
+            boolean control = controlEvery > 0 && navigations.incrementAndGet() % controlEvery == 0;
+            if (control) pause.run();
+            navigating = control;
+        }
+
+        @Override
+        public synchronized void afterGet(WebDriver driver, String url) {
+            loaded = navigating;
+            navigating = null;
+        }
+
+        @Override
+        public synchronized void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            if (!"get".equals(method.getName()) || !(target instanceof WebDriver) || navigating == null) return;
+            if (navigating) resume.run(); // e.g. pageLoadTimeout: don't leave the session unblocked for good
+            navigating = null;
+        }
+
+        // the document being left: its loadEventEnd is the sample; a control document gets blocking back
+        private void leave(WebDriver driver) {
+            if (loaded == null) return;
+            boolean control = loaded;
+            loaded = null;
+            double end = PageReadiness.loadEventEnd(driver); // -1: still loading or gone, no sample
+            if (end > 0) (control ? CONTROL_NAVS : BLOCKED_NAVS).add(Math.round(end * 1_000_000));
+            if (control) resume.run();
+        }
+    }
+
+    // ---------- run-wide report ----------
+
+    private static void recordBlocked(String url, String type) {
+        BLOCKED.increment();
+        BY_TYPE.computeIfAbsent(type == null || "null".equals(type) ? "Other" : type, k -> new LongAdder()).increment();
+        String host;
+        try {
+            host = URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            host = null;
+        }
+        BY_HOST.computeIfAbsent(host == null ? "(none)" : host, k -> new LongAdder()).increment();
+        if (BYTES_BY_URL.size() < MAX_PROBED_URLS && BYTES_BY_URL.putIfAbsent(url, -1L) == null) {
+            PROBES.submit(() -> BYTES_BY_URL.put(url, contentLength(url)));
+        }
+    }
+
+    private static String typeOf(String url) {
+        String path = url.toLowerCase(Locale.ROOT).replaceAll("[?#].*$", "");
+        if (path.matches(".*\\.(woff2?|ttf|otf|eot)$")) return "Font";
+        if (path.matches(".*\\.(png|jpe?g|gif|svg|webp|avif|ico)$")) return "Image";
+        if (path.endsWith(".css")) return "Stylesheet";
+        if (path.endsWith(".js")) return "Script";
+        return "Other";
+    }
+
+    private static long contentLength(String url) {
+        try {
+            HttpResponse<Void> r = HTTP.send(HttpRequest.newBuilder(URI.create(url))
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody()).timeout(Duration.ofSeconds(5)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return r.headers().firstValueAsLong("content-length").orElse(-1L);
+        } catch (Exception e) {
+            return -1L;
+        }
+    }
+
+    /** Blocked requests and estimated bytes/time saved; empty when nothing was blocked or sampled. */
+    public static Map<String, Object> report() {
+        if (BLOCKED.sum() == 0 && BLOCKED_NAVS.count() == 0) return Map.of();
+
+        // bytes are per distinct URL and counted once per blocked request
+        long knownBytes = 0;
+        int unknown = 0;
+        for (long b : BYTES_BY_URL.values()) {
+            if (b < 0) unknown++;
+            else knownBytes += b;
+        }
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("mode", ConfigLoader.get().resourceBlocking());
+        out.put("blockedRequests", BLOCKED.sum());
+        out.put("distinctBlockedUrls", BYTES_BY_URL.size());
+        out.put("blockedBytesOfDistinctUrls", knownBytes);
+        out.put("distinctUrlsWithUnknownSize", unknown);
+        out.put("byType", counts(BY_TYPE, Integer.MAX_VALUE));
+        out.put("topHosts", counts(BY_HOST, 20));
+
+        Map<String, Object> navs = new LinkedHashMap<>();
+        navs.put("blocked", BLOCKED_NAVS.summary());
+        navs.put("control", CONTROL_NAVS.summary());
+        out.put("navigationsMs", navs);
+        if (BLOCKED_NAVS.count() > 0 && CONTROL_NAVS.count() > 0) {
+            double savedPerNav = CONTROL_NAVS.meanMs() - BLOCKED_NAVS.meanMs();
+            out.put("savedPerNavigationMs", Percentiles.round1(savedPerNav));
+            out.put("estimatedSavedMs", Percentiles.round1(savedPerNav * BLOCKED_NAVS.count()));
+        } else {
+            out.put("estimatedSavedMs", "n/a (no control navigations; see resourceBlockingControlEvery)");
+        }
+        return out;
+    }
+
+    public static void reset() {
+        BLOCKED.reset();
+        BY_TYPE.clear();
+        BY_HOST.clear();
+        BYTES_BY_URL.clear();
+        BLOCKED_NAVS.clear();
+        CONTROL_NAVS.clear();
+    }
+
+    private static Map<String, Long> counts(Map<String, LongAdder> m, int top) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        m.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .limit(top)
+                .forEach(e -> sorted.put(e.getKey(), e.getValue().sum()));
+        return sorted;
+    }
+
+    private static Pattern glob(String glob) {
+        return Pattern.compile(Arrays.stream(glob.split("\\*", -1)).map(Pattern::quote)
+                .collect(Collectors.joining(".*")), Pattern.CASE_INSENSITIVE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> (Map<String, Object>) input.read(Map.class));
+    }
+
+    private static final class Navigations {
+        private final List<Long> nanos = new ArrayList<>();
+
+        synchronized void add(long n) { nanos.add(n); }
+        synchronized int count() { return nanos.size(); }
+        synchronized void clear() { nanos.clear(); }
+
+        synchronized double meanMs() {
+            return nanos.stream().mapToLong(Long::longValue).average().orElse(0) / 1_000_000.0;
+        }
+
+        synchronized Map<String, Object> summary() {
+            long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+            Map<String, Object> m = new TreeMap<>();
+            m.put("count", sorted.length);
+            m.put("meanMs", Percentiles.round1(meanMs()));
+            m.put("p95Ms", Percentiles.ms(Percentiles.nearestRank(sorted, 95)));
+            return m;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads for grid round trips that need not hold up a scenario worker (e.g. resetting a session before it goes
+ * back to the pool). They only wait on HTTP, so on Java 21+ they are virtual threads (looked up reflectively; the
+ * suite compiles for 17); on 17 they are daemon platform threads from a cached pool.
+ */
+public final class SessionThreads {
+
+    private static final ThreadFactory FACTORY = factory("session-io-");
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(FACTORY);
+
+    private SessionThreads() {}
+
+    public static void run(Runnable task) {
+        EXECUTOR.execute(task);
+    }
+
+    public static boolean virtual() {
+        return !(FACTORY instanceof PlatformFactory);
+    }
+
+    private static ThreadFactory factory(String prefix) {
+        try {
+            // Thread.ofVirtual().name(prefix, 0).factory(), called through the public Thread.Builder interface
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return new PlatformFactory(prefix);
+        }
+    }
+
+    private static final class PlatformFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger next = new AtomicInteger();
+
+        PlatformFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, prefix + next.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Browser sessions in flight over the run, as recorded by DriverPool: a session is in flight from the moment a
+ * scenario leases it until it is back in the pool (reset included) or quit. Lease waits are the backpressure:
+ * time a worker spent waiting because every slot was busy.
+ */
+public final class SessionTimeline {
+
+    private static final Set<WebDriver> IN_FLIGHT = Collections.newSetFromMap(new IdentityHashMap<>());
+    private static final List<long[]> CHANGES = new ArrayList<>(); // {nanoTime, sessions in flight}
+    private static final List<Long> WAITS = new ArrayList<>();
+    private static long start = System.nanoTime();
+
+    private SessionTimeline() {}
+
+    public static synchronized void leased(WebDriver driver, long waitNanos) {
+        if (IN_FLIGHT.add(driver)) CHANGES.add(new long[] {System.nanoTime(), IN_FLIGHT.size()});
+        WAITS.add(waitNanos);
+    }
+
+    public static synchronized void returned(WebDriver driver) {
+        if (IN_FLIGHT.remove(driver)) CHANGES.add(new long[] {System.nanoTime(), IN_FLIGHT.size()});
+    }
+
+    /** Peak and time-weighted mean in flight, lease waits, and the step timeline ([ms since start, in flight]). */
+    public static synchronized Map<String, Object> report(int slots) {
+        if (WAITS.isEmpty()) return Map.of();
+        long end = System.nanoTime();
+        int peak = 0;
+        double weighted = 0;
+        long prevT = start;
+        int prevN = 0;
+        List<List<Number>> timeline = new ArrayList<>();
+        for (long[] c : CHANGES) {
+            weighted += (double) prevN * (c[0] - prevT);
+            prevT = c[0];
+            prevN = (int) c[1];
+            peak = Math.max(peak, prevN);
+            timeline.add(List.of(Math.round((c[0] - start) / 1_000_000.0), prevN));
+        }
+        weighted += (double) prevN * (end - prevT);
+
+        long[] waits = WAITS.stream().mapToLong(Long::longValue).sorted().toArray();
+        long waited = WAITS.stream().filter(w -> w >= 1_000_000).count();
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("unit", "ms");
+        out.put("slots", slots);
+        out.put("leases", waits.length);
+        out.put("peakInFlight", peak);
+        out.put("meanInFlight", Math.round(weighted / Math.max(1, end - start) * 100) / 100.0);
+        out.put("slotUtilisation", Math.round(weighted / Math.max(1, end - start) / Math.max(1, slots) * 1000) / 1000.0);
+        out.put("leasesThatWaited", waited);
+        out.put("leaseWaitTotalMs", Percentiles.ms(WAITS.stream().mapToLong(Long::longValue).sum()));
+        out.put("leaseWaitP95Ms", Percentiles.ms(Percentiles.nearestRank(waits, 95)));
+        out.put("timeline", timeline);
+        return out;
+    }
+
+    public static synchronized void reset() {
+        CHANGES.clear();
+        WAITS.clear();
+        start = System.nanoTime();
+        if (!IN_FLIGHT.isEmpty()) CHANGES.add(new long[] {start, IN_FLIGHT.size()});
+    }
+}
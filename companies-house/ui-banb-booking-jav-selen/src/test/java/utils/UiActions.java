@@ -8,10 +8,7 @@ public final class UiActions {
     private UiActions() {}
 
     public static WebElement bringIntoViewCenter(WebDriver driver, WaitUtils wait, By locator) {
-        WebElement el = wait.waitForVisibility(locator);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", el);
-        try { Thread.sleep(150); } catch (InterruptedException ignored) {}
-        return el;
+        return wait.scrollIntoViewSettled(locator);
     }
 
     public static void safeClick(WebDriver driver, WaitUtils wait, By locator) {
@@ -19,7 +16,7 @@ public final class UiActions {
         try {
             wait.waitForClickability(locator).click();
         } catch (ElementClickInterceptedException e) {
-            System.out.println("Intercepted. Using JS click for: " + locator);
+            Log.warn(() -> "Intercepted. Using JS click for: " + locator);
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
         }
     }
@@ -0,0 +1,20 @@
+@perf
+Feature: Front-end performance budgets
+As the team that owns the booking journey
+I want page load, re-render and main-thread blocking time checked on every run
+So that a slower page fails the build before guests notice it
+
+  # budgets: perfBudget.{home|rooms|booking}.{metric} in config.properties; perfBudgetMode=report only reports them
+
+  Scenario: The booking journey stays within its performance budgets
+    Given User is on the home page
+    Then the home performance budgets are met
+    And User scrolls to the "Check Availability & Book Your Stay" section
+    When User enters a valid check-in date "30" days from today, and a check-out of "1" nights
+    And User clicks on Check Availability
+    Then the rooms re-render within 2000 ms
+    And the rooms performance budgets are met
+    When Click on the Book Now button.
+    Then User is navigated to the booking page showing the Room type selected
+    And the booking page loads within 6000 ms
+    And the booking performance budgets are met
@@ -0,0 +1,24 @@
+@flows
+Feature: Smoke flows
+As the pre-merge smoke gate
+I want the room, booking and contact flows checked with or without a browser
+So that a broken journey is caught in seconds
+
+  # -Dflows=http (or an @http tag) runs these steps against the API instead of the page objects
+
+  Scenario: Rooms are listed
+    When the guest lists the rooms
+    Then at least one room is offered with a price and a Book now link
+
+  Scenario: Rooms are available for the selected dates
+    When the guest checks availability "14" days from today for "1" nights
+    Then at least one room is offered with a price and a Book now link
+
+  Scenario: A room is booked
+    When the guest checks availability "21" days from today for "1" nights
+    And the guest books the first available room
+    Then the booking is confirmed for the selected dates
+
+  Scenario: A contact message is accepted
+    When the guest sends a contact message
+    Then the message is acknowledged with the guest's name and subject